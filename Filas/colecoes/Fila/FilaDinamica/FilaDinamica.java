@@ -30,6 +30,93 @@ public class FilaDinamica<E> implements Fila<E> {
     private No ultimo;
     private int tamanho;
 
+    // Reciclagem de nós: lista de nós livres ligada por 'proximo' (desativada enquanto o limite for zero)
+    private No livres;
+    private int quantidadeLivres;
+    private int limiteReciclagem;
+    private long nosAlocados;
+    private long nosReutilizados;
+
+    /**
+     * Ativa a reciclagem de nós: até limite nós removidos ficam guardados para serem reaproveitados.
+     * Os nós reciclados têm o valor descartado ao serem liberados, para não reter os elementos removidos.
+     * A lista de nós livres é própria de cada fila, já que a fila não é segura para uso concorrente.
+     * @param limite a quantidade máxima de nós livres guardados
+     * @throws IllegalArgumentException se o limite for menor ou igual a zero
+     */
+    public void ativarReciclagem(int limite) {
+        if (limite <= 0) throw new IllegalArgumentException("O limite de reciclagem deve ser positivo.");
+        limiteReciclagem = limite;
+        while (quantidadeLivres > limite) {
+            livres = livres.proximo;
+            quantidadeLivres--;
+        }
+    }
+
+    /**
+     * Desativa a reciclagem de nós e descarta os nós livres guardados.
+     */
+    public void desativarReciclagem() {
+        limiteReciclagem = 0;
+        livres = null;
+        quantidadeLivres = 0;
+    }
+
+    /**
+     * Retorna quantos nós novos esta fila já alocou.
+     * @return o número de nós alocados
+     */
+    public long nosAlocados() {
+        return nosAlocados;
+    }
+
+    /**
+     * Retorna quantos nós esta fila já reaproveitou da lista de nós livres, em vez de alocá-los.
+     * @return o número de nós reutilizados
+     */
+    public long nosReutilizados() {
+        return nosReutilizados;
+    }
+
+    /**
+     * Retorna um nó com o valor especificado, reaproveitando um nó livre se houver.
+     */
+    private No novoNo(E valor) {
+        if (livres == null) {
+            nosAlocados++;
+            return new No(valor);
+        }
+        No no = livres;
+        livres = no.proximo;
+        quantidadeLivres--;
+        nosReutilizados++;
+        no.proximo = null;
+        no.valor = valor;
+        return no;
+    }
+
+    /**
+     * Devolve um nó já desligado à lista de nós livres, se a reciclagem estiver ativa e houver espaço.
+     */
+    private void liberarNo(No no) {
+        if (quantidadeLivres >= limiteReciclagem) return;
+        no.valor = null;
+        no.proximo = livres;
+        livres = no;
+        quantidadeLivres++;
+    }
+
+    /**
+     * Guarda os nós a partir do especificado até que a lista de nós livres esteja cheia.
+     */
+    private void liberarNos(No no) {
+        while (no != null && quantidadeLivres < limiteReciclagem) {
+            No proximo = no.proximo;
+            liberarNo(no);
+            no = proximo;
+        }
+    }
+
     /**
      * Remove e retorna o elemento do início desta fila.
      * @return o elemento do início desta fila
@@ -38,11 +125,13 @@ public class FilaDinamica<E> implements Fila<E> {
     @Override
     public E desenfileirar() throws FilaVaziaExcecao {
         if(estaVazia()) throw new FilaVaziaExcecao("Fila está vazia!");
-        E valor = primeiro.valor;
-        primeiro = primeiro.proximo;
+        No noRemovido = primeiro;
+        E valor = noRemovido.valor;
+        primeiro = noRemovido.proximo;
         if(primeiro == null){ // Se a fila se tornou vazia
             ultimo = null;
         }
+        liberarNo(noRemovido);
         tamanho--;
         return valor;
     }
@@ -53,7 +142,7 @@ public class FilaDinamica<E> implements Fila<E> {
      */
     @Override
     public void enfileirar(E valor) {
-        No novoNo = new No(valor);
+        No novoNo = novoNo(valor);
         if(estaVazia()){
             primeiro = novoNo;            
         }else{
@@ -98,6 +187,7 @@ public class FilaDinamica<E> implements Fila<E> {
      */
     @Override
     public void limpar() {
+        liberarNos(primeiro);
         primeiro = null;
         ultimo = null;
         tamanho = 0;
@@ -0,0 +1,280 @@
+package colecoes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato de arquivo para salvar e carregar listas de registros de largura fixa por mapeamento em memória
+ * ({@link FileChannel#map}). É usado pelas listas primitivas e pela lista fora do heap.
+ * <p>
+ * O arquivo começa com um cabeçalho de {@value #TAMANHO_CABECALHO} bytes, sempre em big-endian:
+ * <pre>
+ *  0  int   número mágico 0x4C495354 ("LIST")
+ *  4  short versão do formato ({@value #VERSAO})
+ *  6  byte  tipo dos registros (TIPO_INT, TIPO_LONG, TIPO_DOUBLE ou TIPO_REGISTRO)
+ *  7  byte  ordem dos bytes dos dados (0 = big-endian, 1 = little-endian)
+ *  8  int   largura de cada registro, em bytes
+ * 12  int   reservado (0)
+ * 16  long  quantidade de registros
+ * 24  int   CRC-32C dos dados
+ * 28  int   reservado (0)
+ * </pre>
+ * Os dados vêm logo em seguida, alinhados a 8 bytes, na ordem de bytes nativa de quem salvou.
+ * <p>
+ * Um arquivo aberto com {@link #abrir} não mantém recursos abertos: cada leitura abre o seu próprio canal,
+ * e os mapeamentos continuam válidos depois que o canal é fechado. A verificação do checksum é opcional,
+ * porque lê todos os dados e, com isso, anula a carga preguiçosa do mapeamento.
+ */
+public final class ArquivoLista {
+
+    public static final int MAGICO = 0x4C495354;
+    public static final short VERSAO = 1;
+    public static final int TAMANHO_CABECALHO = 32;
+
+    public static final byte TIPO_INT = 1;
+    public static final byte TIPO_LONG = 2;
+    public static final byte TIPO_DOUBLE = 3;
+    public static final byte TIPO_REGISTRO = 4;
+
+    // Os dados são mapeados em trechos de até 1 GB, sempre com um número inteiro de registros
+    private static final int BYTES_POR_TRECHO = 1 << 30;
+
+    /**
+     * Recebe um trecho mapeado dos dados, para leitura ou escrita em bloco.
+     */
+    @FunctionalInterface
+    public interface Trecho {
+        /**
+         * Transfere um trecho de registros entre a lista e o buffer mapeado.
+         * @param buffer o buffer com os bytes do trecho, da posição 0 até o limite, já com a ordem de bytes dos dados
+         * @param primeiro o índice do primeiro registro do trecho
+         * @param quantidade o número de registros do trecho
+         */
+        void transferir(ByteBuffer buffer, long primeiro, int quantidade);
+    }
+
+    private final Path caminho;
+    private final byte tipo;
+    private final int largura;
+    private final long tamanho;
+    private final ByteOrder ordem;
+    private final int checksum;
+
+    private ArquivoLista(Path caminho, byte tipo, int largura, long tamanho, ByteOrder ordem, int checksum) {
+        this.caminho = caminho;
+        this.tipo = tipo;
+        this.largura = largura;
+        this.tamanho = tamanho;
+        this.ordem = ordem;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Salva registros em um arquivo, substituindo-o se existir. Os dados são escritos por mapeamento, em trechos,
+     * e o checksum é calculado na mesma passada.
+     * <p>
+     * A escrita é feita em um arquivo temporário no mesmo diretório, que só substitui o destino, por uma renomeação
+     * atômica, depois de gravado em disco. Assim, uma falha no meio da escrita deixa o arquivo anterior intacto, e
+     * listas ainda mapeadas sobre ele continuam lendo os dados antigos. O arquivo temporário é criado sem atributos
+     * explícitos, com as permissões padrão do processo (a umask, em sistemas POSIX), e, se o destino já existir,
+     * recebe as permissões dele antes da renomeação.
+     * @param caminho o arquivo de destino
+     * @param tipo o tipo dos registros
+     * @param largura a largura de cada registro, em bytes
+     * @param tamanho a quantidade de registros
+     * @param escritor preenche cada trecho mapeado com os registros correspondentes, na ordem nativa
+     * @throws IOException se ocorrer um erro de entrada e saída
+     */
+    public static void salvar(Path caminho, byte tipo, int largura, long tamanho, Trecho escritor) throws IOException {
+        if (largura <= 0 || largura > BYTES_POR_TRECHO) {
+            throw new IllegalArgumentException("Largura de registro inválida: " + largura);
+        }
+        Path destino = caminho.toAbsolutePath();
+        Path temporario = criarTemporario(destino);
+        try {
+            escrever(temporario, tipo, largura, tamanho, escritor);
+            copiarPermissoes(destino, temporario);
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException | Error e) {
+            try {
+                Files.deleteIfExists(temporario);
+            } catch (IOException supressa) {
+                e.addSuppressed(supressa);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cria um arquivo vazio, com nome único, ao lado do destino. Ao contrário de {@link Files#createTempFile},
+     * que restringe o arquivo ao dono, não especifica permissões, de modo que valem as padrão do processo.
+     */
+    private static Path criarTemporario(Path destino) throws IOException {
+        while (true) {
+            Path temporario = destino.resolveSibling(destino.getFileName() + "."
+                    + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(temporario);
+            } catch (FileAlreadyExistsException e) {
+                // Outro nome é sorteado
+            }
+        }
+    }
+
+    /**
+     * Copia as permissões POSIX do destino, se ele existir, para o arquivo que vai substituí-lo.
+     */
+    private static void copiarPermissoes(Path destino, Path temporario) throws IOException {
+        if (Files.exists(destino) && Files.getFileAttributeView(destino, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(temporario, Files.getPosixFilePermissions(destino));
+        }
+    }
+
+    private static void escrever(Path caminho, byte tipo, int largura, long tamanho, Trecho escritor) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long bytes = tamanho * largura;
+            long registrosPorTrecho = BYTES_POR_TRECHO / largura;
+            for (long primeiro = 0; primeiro < tamanho; primeiro += registrosPorTrecho) {
+                int quantidade = (int) Math.min(registrosPorTrecho, tamanho - primeiro);
+                MappedByteBuffer trecho = canal.map(FileChannel.MapMode.READ_WRITE,
+                        TAMANHO_CABECALHO + primeiro * largura, (long) quantidade * largura);
+                trecho.order(ByteOrder.nativeOrder());
+                escritor.transferir(trecho, primeiro, quantidade);
+                trecho.position(0).limit(quantidade * largura);
+                crc.update(trecho);
+                trecho.force();
+            }
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            cabecalho.putInt(MAGICO)
+                    .putShort(VERSAO)
+                    .put(tipo)
+                    .put((byte) (ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 1 : 0))
+                    .putInt(largura)
+                    .putInt(0)
+                    .putLong(tamanho)
+                    .putInt((int) crc.getValue())
+                    .putInt(0)
+                    .flip();
+            while (cabecalho.hasRemaining()) {
+                canal.write(cabecalho, cabecalho.position());
+            }
+            canal.truncate(TAMANHO_CABECALHO + bytes);
+            canal.force(true);
+        }
+    }
+
+    /**
+     * Abre um arquivo salvo, lendo e validando apenas o cabeçalho.
+     * @param caminho o arquivo a ser aberto
+     * @param tipoEsperado o tipo de registros esperado
+     * @param larguraEsperada a largura de registro esperada, em bytes
+     * @return o arquivo aberto, pronto para ser mapeado ou lido
+     * @throws IOException se o arquivo não puder ser lido, não estiver no formato esperado ou estiver truncado
+     */
+    public static ArquivoLista abrir(Path caminho, byte tipoEsperado, int larguraEsperada) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+            while (cabecalho.hasRemaining()) {
+                if (canal.read(cabecalho) < 0) throw new IOException("Arquivo de lista truncado: cabeçalho incompleto.");
+            }
+            cabecalho.flip();
+            if (cabecalho.getInt() != MAGICO) throw new IOException("O arquivo não contém uma lista salva.");
+            short versao = cabecalho.getShort();
+            if (versao != VERSAO) throw new IOException("Versão de arquivo de lista não suportada: " + versao);
+            byte tipo = cabecalho.get();
+            ByteOrder ordem = cabecalho.get() == 1 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            int largura = cabecalho.getInt();
+            cabecalho.getInt();
+            long tamanho = cabecalho.getLong();
+            int checksum = cabecalho.getInt();
+            if (tipo != tipoEsperado || largura != larguraEsperada) {
+                throw new IOException("O arquivo contém registros do tipo " + tipo + " com " + largura
+                        + " bytes; esperado tipo " + tipoEsperado + " com " + larguraEsperada + " bytes.");
+            }
+            if (tamanho < 0 || canal.size() < TAMANHO_CABECALHO + tamanho * largura) {
+                throw new IOException("Arquivo de lista truncado: faltam dados.");
+            }
+            return new ArquivoLista(caminho, tipo, largura, tamanho, ordem, checksum);
+        }
+    }
+
+    /**
+     * Retorna a quantidade de registros do arquivo.
+     * @return a quantidade de registros
+     */
+    public long tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna a ordem de bytes em que os dados foram salvos.
+     * @return a ordem de bytes dos dados
+     */
+    public ByteOrder ordem() {
+        return ordem;
+    }
+
+    /**
+     * Mapeia todos os dados em um único buffer, sem cópia. As páginas são carregadas do disco sob demanda,
+     * à medida que são acessadas. Com {@link FileChannel.MapMode#PRIVATE}, alterações no buffer não chegam ao arquivo.
+     * @param modo o modo de mapeamento
+     * @return o buffer mapeado, com a ordem de bytes dos dados
+     * @throws IOException se ocorrer um erro de entrada e saída ou se os dados excederem o limite de um buffer
+     */
+    public MappedByteBuffer mapear(FileChannel.MapMode modo) throws IOException {
+        long bytes = tamanho * largura;
+        if (bytes > Integer.MAX_VALUE) throw new IOException("Os dados excedem o limite de um único buffer mapeado.");
+        // O mapeamento privado (cópia na escrita) também exige um canal aberto para escrita
+        StandardOpenOption[] opcoes = modo == FileChannel.MapMode.READ_ONLY
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (FileChannel canal = FileChannel.open(caminho, opcoes)) {
+            MappedByteBuffer dados = canal.map(modo, TAMANHO_CABECALHO, bytes);
+            dados.order(ordem);
+            return dados;
+        }
+    }
+
+    /**
+     * Lê os dados em trechos mapeados somente para leitura, para serem copiados em bloco pelo leitor.
+     * @param leitor recebe cada trecho, já com a ordem de bytes dos dados
+     * @throws IOException se ocorrer um erro de entrada e saída
+     */
+    public void lerTrechos(Trecho leitor) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            long registrosPorTrecho = BYTES_POR_TRECHO / largura;
+            for (long primeiro = 0; primeiro < tamanho; primeiro += registrosPorTrecho) {
+                int quantidade = (int) Math.min(registrosPorTrecho, tamanho - primeiro);
+                MappedByteBuffer trecho = canal.map(FileChannel.MapMode.READ_ONLY,
+                        TAMANHO_CABECALHO + primeiro * largura, (long) quantidade * largura);
+                trecho.order(ordem);
+                leitor.transferir(trecho, primeiro, quantidade);
+            }
+        }
+    }
+
+    /**
+     * Recalcula o CRC-32C dos dados e o compara com o gravado no cabeçalho. Lê o arquivo inteiro.
+     * @throws IOException se ocorrer um erro de entrada e saída ou se o checksum não conferir
+     */
+    public void verificarChecksum() throws IOException {
+        CRC32C crc = new CRC32C();
+        lerTrechos((buffer, primeiro, quantidade) -> crc.update(buffer));
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Checksum do arquivo de lista não confere: os dados estão corrompidos.");
+        }
+    }
+
+}
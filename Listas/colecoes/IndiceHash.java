@@ -0,0 +1,167 @@
+package colecoes;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Índice hash secundário e opcional das listas. Associa cada valor ao número de ocorrências dele na lista
+ * e, se a lista fornecer, às referências (por exemplo, os nós) que o contêm. Com ele, testes de pertinência
+ * custam O(1) esperado, e buscas por valores ausentes terminam sem percorrer a lista.
+ * <p>
+ * O custo do índice pode ser medido: {@link #entradas()} indica quantos valores distintos ele guarda
+ * (a memória extra é proporcional a esse número) e {@link #atualizacoes()} conta quantas vezes ele foi
+ * atualizado pelas operações da lista.
+ * @param <E> o tipo de elementos indexados
+ */
+public final class IndiceHash<E> {
+
+    /**
+     * Entrada do índice: o número de ocorrências de um valor e as suas referências, que são guardadas
+     * diretamente quando há apenas uma, ou em uma lista quando há várias.
+     */
+    private static final class Entrada {
+        int ocorrencias;
+        Object referencias;
+    }
+
+    /**
+     * Referências de um valor que ocorre mais de uma vez. A ordem entre elas não importa.
+     */
+    private static final class Referencias {
+        Object[] itens = new Object[4];
+        int quantidade;
+
+        void adicionar(Object referencia) {
+            if (quantidade == itens.length) itens = Arrays.copyOf(itens, quantidade * 2);
+            itens[quantidade++] = referencia;
+        }
+
+        void remover(Object referencia) {
+            for (int i = 0; i < quantidade; i++) {
+                if (itens[i] == referencia) {
+                    itens[i] = itens[--quantidade]; // A última ocupa a posição liberada
+                    itens[quantidade] = null;
+                    return;
+                }
+            }
+        }
+    }
+
+    private final HashMap<E, Entrada> mapa = new HashMap<>();
+    private long atualizacoes;
+
+    /**
+     * Registra uma nova ocorrência do valor especificado, sem referência.
+     * @param valor o valor adicionado à lista
+     */
+    public void adicionar(E valor) {
+        adicionar(valor, null);
+    }
+
+    /**
+     * Registra uma nova ocorrência do valor especificado, associada à referência especificada.
+     * @param valor o valor adicionado à lista
+     * @param referencia a referência que contém o valor, ou null se a lista não guardar referências
+     */
+    public void adicionar(E valor, Object referencia) {
+        atualizacoes++;
+        Entrada entrada = mapa.get(valor);
+        if (entrada == null) {
+            entrada = new Entrada();
+            mapa.put(valor, entrada);
+        }
+        entrada.ocorrencias++;
+        if (referencia == null) return;
+        if (entrada.referencias == null) {
+            entrada.referencias = referencia;
+        } else if (entrada.referencias instanceof Referencias) {
+            ((Referencias) entrada.referencias).adicionar(referencia);
+        } else {
+            Referencias referencias = new Referencias();
+            referencias.adicionar(entrada.referencias);
+            referencias.adicionar(referencia);
+            entrada.referencias = referencias;
+        }
+    }
+
+    /**
+     * Remove uma ocorrência do valor especificado, sem referência.
+     * @param valor o valor removido da lista
+     */
+    public void remover(E valor) {
+        remover(valor, null);
+    }
+
+    /**
+     * Remove a ocorrência do valor especificado associada à referência especificada.
+     * @param valor o valor removido da lista
+     * @param referencia a referência que continha o valor, ou null se a lista não guardar referências
+     */
+    public void remover(E valor, Object referencia) {
+        Entrada entrada = mapa.get(valor);
+        if (entrada == null) return;
+        atualizacoes++;
+        if (--entrada.ocorrencias == 0) {
+            mapa.remove(valor);
+            return;
+        }
+        if (referencia != null && entrada.referencias instanceof Referencias) {
+            Referencias referencias = (Referencias) entrada.referencias;
+            referencias.remover(referencia);
+            if (referencias.quantidade == 1) entrada.referencias = referencias.itens[0];
+        }
+    }
+
+    /**
+     * Retorna true se o valor especificado tiver pelo menos uma ocorrência, em O(1) esperado.
+     * @param valor o valor procurado
+     * @return true se o valor estiver na lista
+     */
+    public boolean contem(E valor) {
+        return mapa.containsKey(valor);
+    }
+
+    /**
+     * Retorna o número de ocorrências do valor especificado.
+     * @param valor o valor procurado
+     * @return o número de ocorrências do valor na lista
+     */
+    public int ocorrencias(E valor) {
+        Entrada entrada = mapa.get(valor);
+        return entrada == null ? 0 : entrada.ocorrencias;
+    }
+
+    /**
+     * Retorna a referência do valor especificado se ele ocorrer exatamente uma vez na lista.
+     * @param valor o valor procurado
+     * @return a única referência que contém o valor, ou null se ele estiver ausente, repetido ou sem referência
+     */
+    public Object referenciaUnica(E valor) {
+        Entrada entrada = mapa.get(valor);
+        return entrada == null || entrada.ocorrencias != 1 ? null : entrada.referencias;
+    }
+
+    /**
+     * Remove todas as entradas do índice.
+     */
+    public void limpar() {
+        mapa.clear();
+    }
+
+    /**
+     * Retorna o número de valores distintos guardados no índice.
+     * @return o número de entradas do índice
+     */
+    public int entradas() {
+        return mapa.size();
+    }
+
+    /**
+     * Retorna quantas atualizações o índice recebeu desde que foi criado.
+     * @return o número de atualizações do índice
+     */
+    public long atualizacoes() {
+        return atualizacoes;
+    }
+
+}
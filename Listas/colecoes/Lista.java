@@ -2,13 +2,24 @@ package colecoes;
 
 import excecoes.ListaVaziaExcecao;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface que define as operações básicas para uma estrutura de dados de lista.
+ * Toda lista é {@link Iterable}: percorrê-la com um iterador (ou um laço for-each) custa O(n)
+ * em qualquer implementação, ao contrário de chamadas sucessivas a {@link #obter(int)}.
  * @param <E> o tipo de elementos que esta lista irá conter
  */
-public interface Lista<E> {
+public interface Lista<E> extends Iterable<E> {
     /**
      * Adiciona o elemento especificado ao final desta lista.
      * @param valor o elemento a ser adicionado
@@ -128,12 +139,91 @@ public interface Lista<E> {
      */
     void adicionarTodos(Lista<E> outraLista);
 
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista, na ordem em que aparecem.
+     * Desloca o elemento atualmente nessa posição (se houver) e quaisquer elementos subsequentes para a direita.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    void inserirTodos(int indice, Lista<E> outraLista);
+
     /**
      * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
      * @param comparador o {@code Comparator} usado para comparar elementos da lista
      */
     void ordenar(Comparator<E> comparador);
 
-}
+    /**
+     * Remove todos os elementos desta lista que satisfazem o predicado especificado, preservando a ordem dos demais.
+     * A implementação padrão percorre a lista uma única vez, separando os elementos mantidos, e só a reconstrói
+     * se algum elemento tiver sido removido; listas baseadas em array e listas encadeadas a sobrescrevem
+     * com uma compactação ou um desligamento de nós no próprio lugar, em O(n).
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    default boolean removerSe(Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        E[] atuais = paraArray();
+        int mantidos = 0;
+        for (E elemento : atuais) {
+            if (!filtro.test(elemento)) atuais[mantidos++] = elemento;
+        }
+        if (mantidos == atuais.length) return false;
+        limpar();
+        for (int i = 0; i < mantidos; i++) {
+            adicionar(atuais[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Remove desta lista todos os elementos contidos na lista especificada, em uma única passada.
+     * Os elementos da outra lista são reunidos antes em um conjunto hash, de modo que cada teste custa O(1) esperado.
+     * @param outraLista a lista com os elementos a serem removidos desta lista
+     * @return true se algum elemento foi removido
+     */
+    default boolean removerTodos(Lista<E> outraLista) {
+        if (outraLista.estaVazia()) return false;
+        Set<E> remover = new HashSet<>(Arrays.asList(outraLista.paraArray()));
+        return removerSe(remover::contains);
+    }
+
+    /**
+     * Mantém nesta lista apenas os elementos contidos na lista especificada, em uma única passada.
+     * Os elementos da outra lista são reunidos antes em um conjunto hash, de modo que cada teste custa O(1) esperado.
+     * @param outraLista a lista com os elementos a serem mantidos nesta lista
+     * @return true se algum elemento foi removido
+     */
+    default boolean reterTodos(Lista<E> outraLista) {
+        Set<E> manter = new HashSet<>(Arrays.asList(outraLista.paraArray()));
+        return removerSe(valor -> !manter.contains(valor));
+    }
 
+    /**
+     * Retorna um {@code Spliterator} sobre os elementos desta lista, na sequência correta.
+     * A implementação padrão se apoia no iterador da lista e divide o trabalho em lotes;
+     * listas baseadas em array devem sobrescrevê-la com uma divisão exata por índices.
+     * @return um {@code Spliterator} ORDERED, SIZED e SUBSIZED sobre os elementos desta lista
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), tamanho(), Spliterator.ORDERED);
+    }
 
+    /**
+     * Retorna um {@code Stream} sequencial com os elementos desta lista.
+     * @return um {@code Stream} sequencial sobre os elementos desta lista
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Retorna um {@code Stream} possivelmente paralelo com os elementos desta lista.
+     * @return um {@code Stream} paralelo sobre os elementos desta lista
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+}
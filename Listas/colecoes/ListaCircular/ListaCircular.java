@@ -0,0 +1,505 @@
+package colecoes.ListaCircular;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * Implementação de uma lista baseada em um array circular (ring buffer), que adere à interface {@link Lista}.
+ * Os elementos ocupam posições consecutivas a partir de {@code inicio}, dando a volta no fim do array.
+ * Como a capacidade é sempre uma potência de dois, a posição física de um índice é obtida com uma máscara
+ * de bits em vez de uma divisão.
+ * <p>
+ * Adicionar e remover nas duas pontas custa O(1) (amortizado, quando o array precisa crescer) e o acesso por
+ * índice continua O(1), o que torna a lista adequada como janela deslizante: os elementos entram pelo final
+ * e saem pelo início sem deslocar os demais. Inserções e remoções no meio deslocam apenas o lado mais curto.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaCircular<E> implements Lista<E> {
+
+    private static final int CAPACIDADE_PADRAO = 32;
+    private static final int CAPACIDADE_MAXIMA = 1 << 30;
+
+    protected E[] elementos;
+    protected int inicio;   // Posição física do primeiro elemento
+    protected int tamanho;
+
+    /**
+     * Constrói uma nova ListaCircular com a capacidade inicial padrão.
+     */
+    public ListaCircular() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaCircular com pelo menos a capacidade inicial especificada,
+     * arredondada para a próxima potência de dois.
+     * @param capacidadeInicial a capacidade inicial da lista
+     * @throws IllegalArgumentException se a capacidade inicial for menor ou igual a zero
+     */
+    @SuppressWarnings("unchecked")
+    public ListaCircular(int capacidadeInicial) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("A capacidade inicial deve ser positiva.");
+        }
+        elementos = (E[]) new Object[potenciaDeDois(capacidadeInicial)];
+    }
+
+    /**
+     * Retorna a menor potência de dois maior ou igual à capacidade especificada.
+     */
+    private static int potenciaDeDois(int capacidade) {
+        if (capacidade > CAPACIDADE_MAXIMA) throw new OutOfMemoryError("Capacidade necessária excede o limite da lista circular.");
+        return capacidade <= 1 ? 1 : Integer.highestOneBit(capacidade - 1) << 1;
+    }
+
+    /**
+     * Converte um índice lógico da lista na posição correspondente do array.
+     * @param indice o índice lógico (pode estar fora de [0, tamanho) durante deslocamentos)
+     * @return a posição física no array
+     */
+    protected int posicao(int indice) {
+        return (inicio + indice) & (elementos.length - 1);
+    }
+
+    /**
+     * Garante que o array comporte pelo menos a quantidade de elementos especificada.
+     * Ao crescer, os elementos são copiados em no máximo dois blocos para o início do novo array.
+     * @param capacidadeNecessaria a quantidade mínima de elementos
+     */
+    @SuppressWarnings("unchecked")
+    protected void garantirCapacidade(int capacidadeNecessaria) {
+        if (capacidadeNecessaria < 0) throw new OutOfMemoryError("Capacidade necessária excede o limite da lista circular.");
+        if (capacidadeNecessaria <= elementos.length) return;
+        int novaCapacidade = potenciaDeDois(Math.max(capacidadeNecessaria, Math.min(CAPACIDADE_MAXIMA, elementos.length * 2)));
+        E[] novo = (E[]) new Object[novaCapacidade];
+        copiarPara(novo);
+        elementos = novo;
+        inicio = 0;
+    }
+
+    /**
+     * Copia os elementos, na sequência correta, para o início do array especificado.
+     */
+    private void copiarPara(Object[] destino) {
+        int primeiroBloco = Math.min(tamanho, elementos.length - inicio);
+        System.arraycopy(elementos, inicio, destino, 0, primeiroBloco);
+        System.arraycopy(elementos, 0, destino, primeiroBloco, tamanho - primeiroBloco);
+    }
+
+    /**
+     * Copia os valores especificados para as posições lógicas a partir de indice, em no máximo dois blocos.
+     */
+    private void copiarDe(Object[] origem, int indice) {
+        int posicaoInicial = posicao(indice);
+        int primeiroBloco = Math.min(origem.length, elementos.length - posicaoInicial);
+        System.arraycopy(origem, 0, elementos, posicaoInicial, primeiroBloco);
+        System.arraycopy(origem, primeiroBloco, elementos, 0, origem.length - primeiroBloco);
+    }
+
+    /**
+     * Desloca os elementos [0, indice) distancia posições para trás, abrindo espaço antes de indice.
+     * O início da lista recua a mesma distância.
+     */
+    private void deslocarInicio(int indice, int distancia) {
+        inicio = posicao(-distancia);
+        for (int i = 0; i < indice; i++) {
+            elementos[posicao(i)] = elementos[posicao(i + distancia)];
+        }
+    }
+
+    /**
+     * Desloca os elementos [indice, tamanho) distancia posições para frente, abrindo espaço a partir de indice.
+     */
+    private void deslocarFim(int indice, int distancia) {
+        for (int i = tamanho - 1; i >= indice; i--) {
+            elementos[posicao(i + distancia)] = elementos[posicao(i)];
+        }
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (tamanho - 1) + "]");
+    }
+
+    /**
+     * Retorna o número de elementos que o array subjacente comporta sem ser realocado.
+     * @return a capacidade atual da lista, sempre uma potência de dois
+     */
+    public int capacidade() {
+        return elementos.length;
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista, em O(1) amortizado.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        if (tamanho == elementos.length) garantirCapacidade(tamanho + 1);
+        elementos[posicao(tamanho)] = valor;
+        tamanho++;
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista, em O(1) amortizado, apenas recuando o início.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        if (tamanho == elementos.length) garantirCapacidade(tamanho + 1);
+        inicio = posicao(-1);
+        elementos[inicio] = valor;
+        tamanho++;
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista, deslocando apenas os elementos
+     * do lado mais curto: os anteriores recuam uma posição ou os seguintes avançam uma posição.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        if (indice <= 0) {
+            inserir(valor);
+        } else if (indice >= tamanho) {
+            adicionar(valor);
+        } else {
+            if (tamanho == elementos.length) garantirCapacidade(tamanho + 1);
+            if (indice < tamanho - indice) {
+                deslocarInicio(indice, 1);
+            } else {
+                deslocarFim(indice, 1);
+            }
+            elementos[posicao(indice)] = valor;
+            tamanho++;
+        }
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista, em O(1).
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Circular está Vazia!");
+        int ultimo = posicao(tamanho - 1);
+        E valor = elementos[ultimo];
+        elementos[ultimo] = null; // Limpa a referência para coleta de lixo
+        tamanho--;
+        return valor;
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista, em O(1), apenas avançando o início.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Circular está Vazia!");
+        E valor = elementos[inicio];
+        elementos[inicio] = null; // Limpa a referência para coleta de lixo
+        inicio = posicao(1);
+        tamanho--;
+        return valor;
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista, deslocando apenas os elementos
+     * do lado mais curto para ocupar a posição liberada.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Circular está Vazia!");
+        verificarIndice(indice);
+        E valor = elementos[posicao(indice)];
+        if (indice < tamanho - 1 - indice) {
+            // Os elementos anteriores avançam uma posição e o início avança junto
+            for (int i = indice; i > 0; i--) {
+                elementos[posicao(i)] = elementos[posicao(i - 1)];
+            }
+            elementos[inicio] = null;
+            inicio = posicao(1);
+        } else {
+            // Os elementos seguintes recuam uma posição
+            for (int i = indice; i < tamanho - 1; i++) {
+                elementos[posicao(i)] = elementos[posicao(i + 1)];
+            }
+            elementos[posicao(tamanho - 1)] = null;
+        }
+        tamanho--;
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista, em O(1).
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Circular está Vazia!");
+        verificarIndice(indice);
+        return elementos[posicao(indice)];
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Circular está Vazia!");
+        verificarIndice(indice);
+        elementos[posicao(indice)] = valor;
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Circular está Vazia!");
+        for (int i = 0; i < tamanho; i++) {
+            E atual = elementos[posicao(i)];
+            if (valor == null ? atual == null : valor.equals(atual)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Remove todos os elementos desta lista, liberando as referências armazenadas. A capacidade é mantida.
+     */
+    @Override
+    public void limpar() {
+        int primeiroBloco = Math.min(tamanho, elementos.length - inicio);
+        Arrays.fill(elementos, inicio, inicio + primeiroBloco, null);
+        Arrays.fill(elementos, 0, tamanho - primeiroBloco, null);
+        inicio = 0;
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta,
+     * copiando em bloco os trechos antes e depois da volta do anel.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        E[] array = (E[]) new Object[tamanho];
+        copiarPara(array);
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * A capacidade é ajustada uma única vez e os elementos são copiados em bloco.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        inserirTodos(tamanho, outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * O lado mais curto é deslocado uma única vez pela quantidade de elementos inseridos, que são então
+     * copiados em bloco. Índices menores ou iguais a zero inserem no início e índices maiores ou iguais
+     * ao tamanho inserem no final.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        E[] origem = outraLista.paraArray();
+        if (origem.length == 0) return;
+        garantirCapacidade(tamanho + origem.length);
+        if (indice < tamanho - indice) {
+            deslocarInicio(indice, origem.length);
+        } else {
+            deslocarFim(indice, origem.length);
+        }
+        copiarDe(origem, indice);
+        tamanho += origem.length;
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado em uma única passada de compactação
+     * com dois ponteiros. Se o predicado lançar uma exceção, os elementos ainda não examinados são mantidos.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        int tamanhoOriginal = tamanho;
+        int leitura = 0;
+        int escrita = 0;
+        try {
+            for (; leitura < tamanhoOriginal; leitura++) {
+                E valor = elementos[posicao(leitura)];
+                if (!filtro.test(valor)) elementos[posicao(escrita++)] = valor;
+            }
+        } finally {
+            for (; leitura < tamanhoOriginal; leitura++) {
+                elementos[posicao(escrita++)] = elementos[posicao(leitura)];
+            }
+            for (int i = escrita; i < tamanhoOriginal; i++) {
+                elementos[posicao(i)] = null;
+            }
+            tamanho = escrita;
+        }
+        return tamanho != tamanhoOriginal;
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Se os elementos derem a volta no anel, eles são antes trazidos para o início do array,
+     * para que fiquem contíguos e sejam ordenados no lugar.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        if (inicio + tamanho > elementos.length) {
+            E[] contiguo = paraArray();
+            limpar();
+            System.arraycopy(contiguo, 0, elementos, 0, contiguo.length);
+            tamanho = contiguo.length;
+        }
+        OrdenacaoAdaptativa.ordenar(elementos, inicio, inicio + tamanho, comparador);
+    }
+
+    /**
+     * Retorna um iterador sobre os elementos desta lista, na sequência correta.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int atual = 0;
+
+            @Override
+            public boolean hasNext() {
+                return atual < tamanho;
+            }
+
+            @Override
+            public E next() {
+                if (atual >= tamanho) throw new NoSuchElementException("Não há mais elementos na lista.");
+                return elementos[posicao(atual++)];
+            }
+        };
+    }
+
+    /**
+     * Retorna um {@code Spliterator} sobre os elementos desta lista. Quando os elementos não dão a volta no anel,
+     * o {@code Spliterator} percorre diretamente o trecho do array e se divide exatamente por índices.
+     * @return um {@code Spliterator} ORDERED e SIZED sobre os elementos desta lista
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        if (inicio + tamanho <= elementos.length) {
+            return Spliterators.spliterator(elementos, inicio, inicio + tamanho, Spliterator.ORDERED);
+        }
+        return Spliterators.spliterator(paraArray(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+
+        for (int i = 0; i < tamanho; i++) {
+            dadosLista.append(elementos[posicao(i)]);
+
+            if (i < tamanho - 1) {
+                dadosLista.append(", ");
+            }
+        }
+
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -0,0 +1,131 @@
+package colecoes.ListaConcorrente;
+
+import colecoes.Lista;
+import colecoes.ListaEstatica.ListaDinamica;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Medição simples da disputa entre threads nas listas concorrentes.
+ * Compara {@link ListaTravaCarimbada} e {@link ListaSegmentada} com a referência atual: uma
+ * {@link ListaDinamica} em que cada operação é envolvida por {@code synchronized}.
+ * <p>
+ * Dois cenários são medidos para cada quantidade de threads: apenas adições, e uma carga mista com
+ * 90% de leituras e 10% de adições. Todas as leituras são {@code obter} em posições aleatórias: {@code tamanho}
+ * fica de fora porque, na {@link ListaSegmentada}, é a leitura de um contador atômico, e misturá-lo às leituras
+ * posicionais esconderia o custo das travas de {@code obter}. O resultado é impresso em
+ * operações por milissegundo. Uso: {@code java colecoes.ListaConcorrente.BenchmarkConcorrencia [threads] [operacoesPorThread]}.
+ */
+public class BenchmarkConcorrencia {
+
+    private static final int REPETICOES = 5;
+
+    /**
+     * Recebe a soma das leituras de cada thread, para que elas não sejam descartadas como código morto.
+     */
+    private static volatile long sumidouro;
+
+    /**
+     * Uma lista sob teste: como criar uma instância vazia e se cada operação deve ser sincronizada por fora.
+     */
+    private static final class Candidato {
+        final String nome;
+        final Supplier<Lista<Integer>> fabrica;
+        final boolean sincronizar;
+
+        Candidato(String nome, Supplier<Lista<Integer>> fabrica, boolean sincronizar) {
+            this.nome = nome;
+            this.fabrica = fabrica;
+            this.sincronizar = sincronizar;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maximoThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int operacoes = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        Candidato[] candidatos = {
+            new Candidato("synchronized", () -> new ListaDinamica<>(16), true),
+            new Candidato("ListaTravaCarimbada", () -> new ListaTravaCarimbada<>(new ListaDinamica<>(16)), false),
+            new Candidato("ListaSegmentada", ListaSegmentada::new, false),
+        };
+
+        System.out.printf("%-22s %8s %16s %16s%n", "lista", "threads", "adicoes (op/ms)", "misto (op/ms)");
+        for (int threads = 1; threads <= maximoThreads; threads *= 2) {
+            for (Candidato candidato : candidatos) {
+                double adicoes = melhorDe(candidato, threads, operacoes, 0);
+                double misto = melhorDe(candidato, threads, operacoes, 90);
+                System.out.printf("%-22s %8d %16.0f %16.0f%n", candidato.nome, threads, adicoes, misto);
+            }
+        }
+    }
+
+    /**
+     * Executa o cenário várias vezes (a primeira serve de aquecimento) e retorna a melhor vazão.
+     */
+    private static double melhorDe(Candidato candidato, int threads, int operacoes, int percentualLeituras) throws InterruptedException {
+        double melhor = 0;
+        for (int i = 0; i < REPETICOES; i++) {
+            double vazao = executar(candidato, threads, operacoes, percentualLeituras);
+            if (i > 0) melhor = Math.max(melhor, vazao);
+        }
+        return melhor;
+    }
+
+    /**
+     * Executa um cenário e retorna a vazão total em operações por milissegundo.
+     */
+    private static double executar(Candidato candidato, int threads, int operacoes, int percentualLeituras) throws InterruptedException {
+        Lista<Integer> lista = candidato.fabrica.get();
+        for (int i = 0; i < 1024; i++) {
+            lista.adicionar(i); // As leituras sempre encontram elementos
+        }
+        CountDownLatch largada = new CountDownLatch(1);
+        CountDownLatch chegada = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    largada.await();
+                    trabalhar(lista, candidato.sincronizar, operacoes, percentualLeituras);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    chegada.countDown();
+                }
+            });
+            thread.start();
+        }
+        long inicio = System.nanoTime();
+        largada.countDown();
+        chegada.await();
+        double milissegundos = (System.nanoTime() - inicio) / 1e6;
+        return threads * (double) operacoes / milissegundos;
+    }
+
+    private static void trabalhar(Lista<Integer> lista, boolean sincronizar, int operacoes, int percentualLeituras) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long soma = 0;
+        for (int i = 0; i < operacoes; i++) {
+            boolean leitura = aleatorio.nextInt(100) < percentualLeituras;
+            if (sincronizar) {
+                synchronized (lista) {
+                    soma += operar(lista, leitura, aleatorio, i);
+                }
+            } else {
+                soma += operar(lista, leitura, aleatorio, i);
+            }
+        }
+        sumidouro = soma;
+    }
+
+    private static int operar(Lista<Integer> lista, boolean leitura, ThreadLocalRandom aleatorio, int valor) {
+        if (!leitura) {
+            lista.adicionar(valor);
+            return 0;
+        }
+        return lista.obter(aleatorio.nextInt(1024));
+    }
+
+}
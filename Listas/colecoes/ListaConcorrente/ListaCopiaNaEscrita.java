@@ -0,0 +1,392 @@
+package colecoes.ListaConcorrente;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * Implementação de uma lista com cópia na escrita (copy-on-write), segura para uso concorrente,
+ * que adere à interface {@link Lista}.
+ * Os elementos ficam em um array imutável publicado por uma referência volátil. Leituras ({@code obter},
+ * {@code contem}, {@code paraArray}, iteração) não usam trava: apenas leem o array atual. Cada escrita copia
+ * o array sob uma trava, altera a cópia e publica a nova versão; escritas em lote copiam uma única vez.
+ * <p>
+ * É adequada para listas muito lidas e raramente alteradas, como configurações compartilhadas entre threads.
+ * Iteradores percorrem o instantâneo do momento em que foram criados e nunca veem alterações posteriores.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaCopiaNaEscrita<E> implements Lista<E> {
+
+    private static final Object[] VAZIO = new Object[0];
+
+    private final Object trava = new Object();
+    private volatile Object[] elementos = VAZIO;
+
+    /**
+     * Constrói uma nova ListaCopiaNaEscrita vazia.
+     */
+    public ListaCopiaNaEscrita() {
+    }
+
+    /**
+     * Constrói uma nova ListaCopiaNaEscrita com os elementos da lista especificada.
+     * @param outraLista a lista cujos elementos serão copiados
+     */
+    public ListaCopiaNaEscrita(Lista<E> outraLista) {
+        elementos = Arrays.copyOf(outraLista.paraArray(), outraLista.tamanho(), Object[].class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elemento(Object[] array, int indice) {
+        return (E) array[indice];
+    }
+
+    private static void verificarIndice(Object[] array, int indice) {
+        if (indice < 0 || indice >= array.length) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + array.length);
+    }
+
+    private static int indiceDe(Object[] array, Object valor) {
+        for (int i = 0; i < array.length; i++) {
+            if (valor == null ? array[i] == null : valor.equals(array[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Insere os elementos especificados na posição especificada de uma cópia do array atual e a publica.
+     * Deve ser chamado com a trava.
+     */
+    private void publicarComInsercao(int indice, Object[] novos) {
+        Object[] atual = elementos;
+        if (indice < 0) indice = 0;
+        if (indice > atual.length) indice = atual.length;
+        Object[] copia = new Object[atual.length + novos.length];
+        System.arraycopy(atual, 0, copia, 0, indice);
+        System.arraycopy(novos, 0, copia, indice, novos.length);
+        System.arraycopy(atual, indice, copia, indice + novos.length, atual.length - indice);
+        elementos = copia;
+    }
+
+    /**
+     * Remove o elemento na posição especificada de uma cópia do array atual e a publica.
+     * Deve ser chamado com a trava.
+     */
+    private E publicarComRemocao(int indice) {
+        Object[] atual = elementos;
+        E valor = elemento(atual, indice);
+        Object[] copia = new Object[atual.length - 1];
+        System.arraycopy(atual, 0, copia, 0, indice);
+        System.arraycopy(atual, indice + 1, copia, indice, atual.length - indice - 1);
+        elementos = copia;
+        return valor;
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista, copiando o array.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        synchronized (trava) {
+            publicarComInsercao(elementos.length, new Object[]{valor});
+        }
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista, copiando o array.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista, copiando o array.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        synchronized (trava) {
+            publicarComInsercao(indice, new Object[]{valor});
+        }
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        synchronized (trava) {
+            if (elementos.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+            return publicarComRemocao(elementos.length - 1);
+        }
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        synchronized (trava) {
+            if (elementos.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+            return publicarComRemocao(0);
+        }
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        synchronized (trava) {
+            if (elementos.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+            verificarIndice(elementos, indice);
+            return publicarComRemocao(indice);
+        }
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * Se o elemento não estiver presente, o array não é copiado.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        synchronized (trava) {
+            if (elementos.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+            int indice = indiceDe(elementos, valor);
+            if (indice == -1) return false;
+            publicarComRemocao(indice);
+            return true;
+        }
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista, sem trava.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        Object[] atual = elementos;
+        if (atual.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+        verificarIndice(atual, indice);
+        return elemento(atual, indice);
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado, copiando o array.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        synchronized (trava) {
+            if (elementos.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+            verificarIndice(elementos, indice);
+            Object[] copia = elementos.clone();
+            copia[indice] = valor;
+            elementos = copia;
+        }
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado, sem trava.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento. Não usa trava.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        Object[] atual = elementos;
+        if (atual.length == 0) throw new ListaVaziaExcecao("Lista Cópia na Escrita está Vazia!");
+        return indiceDe(atual, valor);
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return elementos.length;
+    }
+
+    /**
+     * Remove todos os elementos desta lista.
+     * A lista ficará vazia após esta chamada retornar.
+     */
+    @Override
+    public void limpar() {
+        synchronized (trava) {
+            elementos = VAZIO;
+        }
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return elementos.length == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta, copiado do instantâneo atual.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        return (E[]) elementos.clone();
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista, copiando o array uma única vez.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        Object[] novos = outraLista.paraArray(); // Obtidos antes da trava, caso a origem seja esta lista
+        if (novos.length == 0) return;
+        synchronized (trava) {
+            publicarComInsercao(elementos.length, novos);
+        }
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista,
+     * copiando o array uma única vez.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        Object[] novos = outraLista.paraArray();
+        if (novos.length == 0) return;
+        synchronized (trava) {
+            publicarComInsercao(indice, novos);
+        }
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado, filtrando o array atual em uma única
+     * passada e publicando o resultado de uma só vez; se nada for removido, nenhuma cópia é publicada.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        synchronized (trava) {
+            Object[] atual = elementos;
+            Object[] mantidos = new Object[atual.length];
+            int quantidade = 0;
+            for (int i = 0; i < atual.length; i++) {
+                E valor = elemento(atual, i);
+                if (!filtro.test(valor)) mantidos[quantidade++] = valor;
+            }
+            if (quantidade == atual.length) return false;
+            elementos = quantidade == 0 ? VAZIO : Arrays.copyOf(mantidos, quantidade);
+            return true;
+        }
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Uma cópia do array é ordenada e publicada; leitores concorrentes veem a versão anterior ou a ordenada, nunca um estado intermediário.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void ordenar(Comparator<E> comparador) {
+        synchronized (trava) {
+            E[] copia = (E[]) elementos.clone();
+            OrdenacaoAdaptativa.ordenar(copia, 0, copia.length, comparador);
+            elementos = copia;
+        }
+    }
+
+    /**
+     * Retorna um iterador sobre o instantâneo atual desta lista. O iterador não usa trava
+     * e não é afetado por escritas posteriores.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Object[] instantaneo = elementos;
+        return new Iterator<E>() {
+            private int atual = 0;
+
+            @Override
+            public boolean hasNext() {
+                return atual < instantaneo.length;
+            }
+
+            @Override
+            public E next() {
+                if (atual >= instantaneo.length) throw new NoSuchElementException("Não há mais elementos na lista.");
+                return elemento(instantaneo, atual++);
+            }
+        };
+    }
+
+    /**
+     * Retorna um {@code Spliterator} sobre o instantâneo atual desta lista, que se divide exatamente ao meio por índices.
+     * @return um {@code Spliterator} ORDERED, IMMUTABLE, SIZED e SUBSIZED sobre os elementos desta lista
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elementos, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(elementos);
+    }
+
+}
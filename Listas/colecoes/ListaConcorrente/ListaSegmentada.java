@@ -0,0 +1,562 @@
+package colecoes.ListaConcorrente;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Implementação de uma lista segmentada com travas por segmento (lock striping), segura para uso concorrente,
+ * que adere à interface {@link Lista}.
+ * Os elementos ficam em segmentos de tamanho fixo ({@value #TAMANHO_SEGMENTO} posições): a posição global
+ * {@code i} está sempre no segmento {@code i / TAMANHO_SEGMENTO}, de modo que a ordem da lista é a ordem global
+ * de chegada. Cada segmento é protegido por uma das travas da lista ({@code segmento % quantidadeTravas}),
+ * e o tamanho é um contador atômico que só muda com a trava do segmento da posição afetada.
+ * <p>
+ * {@code adicionar} reserva a próxima posição no contador enquanto segura apenas a trava do segmento dessa
+ * posição; {@code removerUltimo} faz o mesmo com a última. {@code obter} e {@code definir} adquirem apenas a
+ * trava do segmento da posição consultada, e {@code indiceDe} e {@code contem} percorrem os segmentos adquirindo
+ * uma trava de cada vez. Assim, leituras e escritas em segmentos diferentes não esperam umas pelas outras;
+ * adições simultâneas ainda disputam a trava do segmento final, mas só pelo tempo de gravar uma posição.
+ * <p>
+ * As operações que deslocam elementos entre segmentos (inserções, remoções no início ou no meio e as operações
+ * em bloco), bem como {@code paraArray}, {@code limpar}, {@code ordenar} e {@code removerSe}, adquirem as travas
+ * de todos os segmentos, sempre na mesma ordem. {@code indiceDe} não é um instantâneo: com escritas
+ * simultâneas, a posição retornada é aquela em que o valor estava quando o seu segmento foi examinado.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaSegmentada<E> implements Lista<E> {
+
+    private static final int BITS_SEGMENTO = 6;
+    private static final int TAMANHO_SEGMENTO = 1 << BITS_SEGMENTO;
+    private static final int MASCARA_SEGMENTO = TAMANHO_SEGMENTO - 1;
+
+    private final ReentrantLock[] travas;
+    private final AtomicInteger tamanho = new AtomicInteger();
+
+    // O segmento s só é criado por quem segura a trava de s, e só é lido com ela
+    private volatile Object[][] segmentos = new Object[4][];
+    private int segmentosCriados;
+    private final ReentrantLock travaDiretorio = new ReentrantLock();
+
+    /**
+     * Constrói uma nova ListaSegmentada com uma trava para cada processador disponível.
+     */
+    public ListaSegmentada() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constrói uma nova ListaSegmentada com o número de travas especificado, repartidas entre os segmentos.
+     * @param quantidadeTravas o número de travas da lista
+     * @throws IllegalArgumentException se a quantidade de travas for menor ou igual a zero
+     */
+    public ListaSegmentada(int quantidadeTravas) {
+        if (quantidadeTravas <= 0) {
+            throw new IllegalArgumentException("A quantidade de travas deve ser positiva.");
+        }
+        travas = new ReentrantLock[quantidadeTravas];
+        for (int i = 0; i < quantidadeTravas; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Retorna a trava que protege o segmento da posição especificada.
+     */
+    private ReentrantLock travaDaPosicao(int indice) {
+        return travas[(indice >>> BITS_SEGMENTO) % travas.length];
+    }
+
+    private void travarTodos() {
+        for (ReentrantLock trava : travas) {
+            trava.lock();
+        }
+    }
+
+    private void destravarTodos() {
+        for (int i = travas.length - 1; i >= 0; i--) {
+            travas[i].unlock();
+        }
+    }
+
+    /**
+     * Garante que existam segmentos para as posições [0, capacidade). Deve ser chamado com a trava de todos os
+     * segmentos que podem ser criados: a do segmento da posição {@code capacidade - 1}, ao adicionar, ou todas.
+     */
+    private void garantirCapacidade(int capacidade) {
+        int necessarios = ((capacidade - 1) >>> BITS_SEGMENTO) + 1;
+        Object[][] atual = segmentos;
+        if (necessarios <= atual.length && atual[necessarios - 1] != null) return;
+        travaDiretorio.lock();
+        try {
+            atual = segmentos;
+            if (necessarios > atual.length) {
+                atual = Arrays.copyOf(atual, Math.max(necessarios, atual.length * 2));
+            }
+            for (int s = segmentosCriados; s < necessarios; s++) {
+                atual[s] = new Object[TAMANHO_SEGMENTO];
+            }
+            segmentosCriados = Math.max(segmentosCriados, necessarios);
+            segmentos = atual;
+        } finally {
+            travaDiretorio.unlock();
+        }
+    }
+
+    /**
+     * Lê a posição especificada. Deve ser chamado com a trava do segmento da posição.
+     */
+    @SuppressWarnings("unchecked")
+    private E ler(int indice) {
+        return (E) segmentos[indice >>> BITS_SEGMENTO][indice & MASCARA_SEGMENTO];
+    }
+
+    /**
+     * Grava a posição especificada, cujo segmento já deve existir. Deve ser chamado com a trava do segmento da posição.
+     */
+    private void gravar(int indice, Object valor) {
+        segmentos[indice >>> BITS_SEGMENTO][indice & MASCARA_SEGMENTO] = valor;
+    }
+
+    /**
+     * Move {@code quantidade} elementos da posição {@code origem} para a posição {@code destino}, na direção que
+     * não sobrescreve elementos ainda não movidos. Deve ser chamado com todas as travas.
+     */
+    private void mover(int origem, int destino, int quantidade) {
+        if (destino > origem) {
+            for (int i = quantidade - 1; i >= 0; i--) {
+                gravar(destino + i, ler(origem + i));
+            }
+        } else {
+            for (int i = 0; i < quantidade; i++) {
+                gravar(destino + i, ler(origem + i));
+            }
+        }
+    }
+
+    /**
+     * Esvazia as posições [de, ate), para que os elementos removidos possam ser coletados. Deve ser chamado com todas as travas.
+     */
+    private void esvaziar(int de, int ate) {
+        for (int i = de; i < ate; i++) {
+            gravar(i, null);
+        }
+    }
+
+    private void verificarIndice(int indice, int tamanho) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + tamanho);
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista, adquirindo apenas a trava do segmento da posição final.
+     * A posição é reservada no contador com a trava adquirida; se outra thread a reservar antes, a tentativa é
+     * repetida com a nova posição final.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        while (true) {
+            int indice = tamanho.get();
+            ReentrantLock trava = travaDaPosicao(indice);
+            trava.lock();
+            try {
+                garantirCapacidade(indice + 1);
+                if (tamanho.compareAndSet(indice, indice + 1)) {
+                    gravar(indice, valor);
+                    return;
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista, deslocando todos os elementos com todas as travas.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        travarTodos();
+        try {
+            int atual = tamanho.get();
+            int posicao = Math.min(Math.max(indice, 0), atual);
+            garantirCapacidade(atual + 1);
+            mover(posicao, posicao + 1, atual - posicao);
+            gravar(posicao, valor);
+            tamanho.set(atual + 1);
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista, adquirindo apenas a trava do segmento da última posição.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        while (true) {
+            int atual = tamanho.get();
+            if (atual == 0) throw new ListaVaziaExcecao("Lista Segmentada está Vazia!");
+            ReentrantLock trava = travaDaPosicao(atual - 1);
+            trava.lock();
+            try {
+                if (tamanho.compareAndSet(atual, atual - 1)) {
+                    E valor = ler(atual - 1);
+                    gravar(atual - 1, null);
+                    return valor;
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        travarTodos();
+        try {
+            if (tamanho.get() == 0) throw new ListaVaziaExcecao("Lista Segmentada está Vazia!");
+            return removerTravado(0);
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        travarTodos();
+        try {
+            int atual = tamanho.get();
+            if (atual == 0) throw new ListaVaziaExcecao("Lista Segmentada está Vazia!");
+            verificarIndice(indice, atual);
+            return removerTravado(indice);
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Remove a posição especificada, deslocando os elementos seguintes. Deve ser chamado com todas as travas.
+     */
+    private E removerTravado(int indice) {
+        int atual = tamanho.get();
+        E valor = ler(indice);
+        mover(indice + 1, indice, atual - indice - 1);
+        gravar(atual - 1, null);
+        tamanho.set(atual - 1);
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        travarTodos();
+        try {
+            int atual = tamanho.get();
+            if (atual == 0) throw new ListaVaziaExcecao("Lista Segmentada está Vazia!");
+            for (int i = 0; i < atual; i++) {
+                if (Objects.equals(valor, ler(i))) {
+                    removerTravado(i);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista, adquirindo apenas a trava do segmento da posição.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        ReentrantLock trava = travaDaPosicao(indice);
+        trava.lock();
+        try {
+            return ler(indiceValido(indice));
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado,
+     * adquirindo apenas a trava do segmento da posição.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        ReentrantLock trava = travaDaPosicao(indice);
+        trava.lock();
+        try {
+            gravar(indiceValido(indice), valor);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Verifica a posição contra o tamanho atual e a retorna. Com a trava do segmento da posição adquirida,
+     * o tamanho não pode deixar de incluí-la antes que a trava seja liberada.
+     */
+    private int indiceValido(int indice) {
+        int atual = tamanho.get();
+        if (atual == 0) throw new ListaVaziaExcecao("Lista Segmentada está Vazia!");
+        verificarIndice(indice, atual);
+        return indice;
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * Os segmentos são examinados em ordem, cada um com a sua trava, sem bloquear a lista inteira.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (tamanho.get() == 0) throw new ListaVaziaExcecao("Lista Segmentada está Vazia!");
+        for (int inicio = 0; inicio < tamanho.get(); inicio += TAMANHO_SEGMENTO) {
+            ReentrantLock trava = travaDaPosicao(inicio);
+            trava.lock();
+            try {
+                int fim = Math.min(inicio + TAMANHO_SEGMENTO, tamanho.get());
+                for (int i = inicio; i < fim; i++) {
+                    if (Objects.equals(valor, ler(i))) return i;
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista, lido do contador atômico, sem trava.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho.get();
+    }
+
+    /**
+     * Remove todos os elementos desta lista.
+     * A lista ficará vazia após esta chamada retornar.
+     */
+    @Override
+    public void limpar() {
+        travarTodos();
+        try {
+            esvaziar(0, tamanho.get());
+            tamanho.set(0);
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho() == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta, obtido com todas as travas.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        travarTodos();
+        try {
+            return (E[]) copiarTravado();
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Copia os elementos, em ordem, para um único array. Deve ser chamado com todas as travas.
+     */
+    private Object[] copiarTravado() {
+        int atual = tamanho.get();
+        Object[] array = new Object[atual];
+        Object[][] todos = segmentos;
+        for (int inicio = 0; inicio < atual; inicio += TAMANHO_SEGMENTO) {
+            System.arraycopy(todos[inicio >>> BITS_SEGMENTO], 0, array, inicio, Math.min(TAMANHO_SEGMENTO, atual - inicio));
+        }
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista, em posições contíguas.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        inserirTodos(Integer.MAX_VALUE, outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * Os elementos da outra lista são copiados antes de qualquer trava ser adquirida, o que também torna seguro
+     * usar esta própria lista como origem.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        Object[] novos = outraLista.paraArray();
+        if (novos.length == 0) return;
+        travarTodos();
+        try {
+            int atual = tamanho.get();
+            int posicao = Math.min(Math.max(indice, 0), atual);
+            garantirCapacidade(atual + novos.length);
+            mover(posicao, posicao + novos.length, atual - posicao);
+            for (int i = 0; i < novos.length; i++) {
+                gravar(posicao + i, novos[i]);
+            }
+            tamanho.set(atual + novos.length);
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado, com todas as travas adquiridas.
+     * A lista é compactada em uma única passada.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        travarTodos();
+        try {
+            int atual = tamanho.get();
+            int leitura = 0;
+            int escrita = 0;
+            try {
+                for (; leitura < atual; leitura++) {
+                    E valor = ler(leitura);
+                    if (!filtro.test(valor)) gravar(escrita++, valor);
+                }
+            } finally {
+                // Os elementos não examinados (se o predicado falhou) são deslocados juntos
+                int restantes = atual - leitura;
+                mover(leitura, escrita, restantes);
+                escrita += restantes;
+                esvaziar(escrita, atual);
+                tamanho.set(escrita);
+            }
+            return escrita != atual;
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os elementos são ordenados em um único array e gravados de volta nos segmentos, com todas as travas.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void ordenar(Comparator<E> comparador) {
+        travarTodos();
+        try {
+            E[] array = (E[]) copiarTravado();
+            OrdenacaoAdaptativa.ordenar(array, 0, array.length, comparador);
+            for (int i = 0; i < array.length; i++) {
+                gravar(i, array[i]);
+            }
+        } finally {
+            destravarTodos();
+        }
+    }
+
+    /**
+     * Retorna um iterador sobre um instantâneo desta lista, obtido com todas as travas.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Arrays.asList(paraArray()).iterator();
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(paraArray());
+    }
+
+}
@@ -0,0 +1,375 @@
+package colecoes.ListaConcorrente;
+
+import colecoes.Lista;
+import colecoes.ListaEstatica.ListaEstatica;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * Envoltório seguro para uso concorrente de qualquer {@link Lista}, baseado em {@link StampedLock}.
+ * Escritas usam a trava de escrita e leituras usam a trava de leitura, que pode ser compartilhada por
+ * várias threads ao mesmo tempo.
+ * <p>
+ * {@code tamanho}, {@code estaVazia} e, para listas baseadas em array ({@link ListaEstatica} e derivadas),
+ * {@code obter} tentam primeiro uma leitura otimista, sem trava nenhuma: a leitura é feita e depois validada;
+ * se uma escrita tiver ocorrido no meio, ou se a leitura tiver falhado por causa dela, a operação é repetida
+ * com a trava de leitura. Listas encadeadas sempre usam a trava de leitura em {@code obter}, pois percorrer
+ * nós que estão sendo religados não é seguro nem mesmo de forma otimista.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaTravaCarimbada<E> implements Lista<E> {
+
+    private final Lista<E> lista;
+    private final StampedLock trava = new StampedLock();
+    private final boolean obterOtimista;
+
+    /**
+     * Constrói um novo envoltório para a lista especificada. A lista não deve mais ser acessada diretamente.
+     * @param lista a lista a ser protegida
+     */
+    public ListaTravaCarimbada(Lista<E> lista) {
+        this.lista = lista;
+        this.obterOtimista = lista instanceof ListaEstatica;
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        long carimbo = trava.writeLock();
+        try {
+            lista.adicionar(valor);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        long carimbo = trava.writeLock();
+        try {
+            lista.inserir(valor);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        long carimbo = trava.writeLock();
+        try {
+            lista.inserir(indice, valor);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        long carimbo = trava.writeLock();
+        try {
+            return lista.removerUltimo();
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        long carimbo = trava.writeLock();
+        try {
+            return lista.removerPrimeiro();
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        long carimbo = trava.writeLock();
+        try {
+            return lista.removerPorIndice(indice);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        long carimbo = trava.writeLock();
+        try {
+            return lista.remover(valor);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista.
+     * Para listas baseadas em array, tenta primeiro uma leitura otimista, sem trava.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (obterOtimista) {
+            long carimbo = trava.tryOptimisticRead();
+            if (carimbo != 0) {
+                try {
+                    E valor = lista.obter(indice);
+                    if (trava.validate(carimbo)) return valor;
+                } catch (RuntimeException e) {
+                    // Exceções legítimas (lista vazia, índice inválido) só valem se nenhuma escrita interferiu
+                    if (trava.validate(carimbo)) throw e;
+                }
+            }
+        }
+        long carimbo = trava.readLock();
+        try {
+            return lista.obter(indice);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        long carimbo = trava.writeLock();
+        try {
+            lista.definir(indice, valor);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        long carimbo = trava.readLock();
+        try {
+            return lista.contem(valor);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        long carimbo = trava.readLock();
+        try {
+            return lista.indiceDe(valor);
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista, com uma leitura otimista sempre que não houver escrita em andamento.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        long carimbo = trava.tryOptimisticRead();
+        int tamanho = lista.tamanho();
+        if (trava.validate(carimbo)) return tamanho;
+        carimbo = trava.readLock();
+        try {
+            return lista.tamanho();
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Remove todos os elementos desta lista.
+     * A lista ficará vazia após esta chamada retornar.
+     */
+    @Override
+    public void limpar() {
+        long carimbo = trava.writeLock();
+        try {
+            lista.limpar();
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho() == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    public E[] paraArray() {
+        long carimbo = trava.readLock();
+        try {
+            return lista.paraArray();
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * Os elementos da outra lista são obtidos antes de a trava de escrita ser adquirida.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        Lista<E> origem = copiaSeNecessario(outraLista);
+        long carimbo = trava.writeLock();
+        try {
+            lista.adicionarTodos(origem);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * Os elementos da outra lista são obtidos antes de a trava de escrita ser adquirida.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        Lista<E> origem = copiaSeNecessario(outraLista);
+        long carimbo = trava.writeLock();
+        try {
+            lista.inserirTodos(indice, origem);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Quando a origem é este próprio envoltório, retorna um instantâneo dela, para que a lista protegida não seja
+     * lida através da trava enquanto a trava de escrita (que não é reentrante) estiver adquirida.
+     */
+    private Lista<E> copiaSeNecessario(Lista<E> outraLista) {
+        return outraLista == this ? new ListaCopiaNaEscrita<>(this) : outraLista;
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado, com a trava de escrita adquirida
+     * durante toda a passada. O predicado não deve acessar esta lista.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        long carimbo = trava.writeLock();
+        try {
+            return lista.removerSe(filtro);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        long carimbo = trava.writeLock();
+        try {
+            lista.ordenar(comparador);
+        } finally {
+            trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Retorna um iterador sobre um instantâneo desta lista, obtido com a trava de leitura.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Arrays.asList(paraArray()).iterator();
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        long carimbo = trava.readLock();
+        try {
+            return lista.toString();
+        } finally {
+            trava.unlockRead(carimbo);
+        }
+    }
+
+}
@@ -0,0 +1,519 @@
+package colecoes.ListaEncadeada;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementação de uma lista encadeada desenrolada (unrolled linked list), que adere à interface {@link Lista}.
+ * Em vez de um nó por elemento, cada bloco da cadeia guarda um pequeno array de elementos (64 por padrão).
+ * Isso reduz drasticamente o número de objetos alocados e mantém elementos vizinhos próximos na memória,
+ * tornando as varreduras sequenciais muito mais rápidas. O acesso por índice salta blocos inteiros, custando
+ * O(n / capacidade do bloco).
+ * <p>
+ * Todos os blocos, exceto o último, são mantidos pelo menos pela metade: blocos cheios são divididos ao meio
+ * e blocos que ficam abaixo da metade tomam elementos do bloco seguinte ou são fundidos com ele.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaDesenrolada<E> implements Lista<E> {
+
+    private static final int CAPACIDADE_BLOCO_PADRAO = 64;
+
+    /**
+     * Classe interna que representa um bloco da lista: um array de elementos e as ligações com os blocos vizinhos.
+     */
+    protected class Bloco {
+        E[] valores;
+        int quantidade;
+        Bloco anterior;
+        Bloco proximo;
+
+        @SuppressWarnings("unchecked")
+        Bloco() {
+            valores = (E[]) new Object[capacidadeBloco];
+        }
+    }
+
+    protected final int capacidadeBloco;
+    protected int tamanho;
+    protected Bloco cabeca;
+    protected Bloco cauda;
+
+    // Resultado da última localização: o bloco e a posição do elemento dentro dele
+    private Bloco blocoLocalizado;
+    private int posicaoLocalizada;
+
+    /**
+     * Constrói uma nova ListaDesenrolada com blocos de 64 elementos.
+     */
+    public ListaDesenrolada() {
+        this(CAPACIDADE_BLOCO_PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaDesenrolada com a capacidade de bloco especificada.
+     * @param capacidadeBloco o número máximo de elementos em cada bloco
+     * @throws IllegalArgumentException se a capacidade do bloco for menor que 4
+     */
+    public ListaDesenrolada(int capacidadeBloco) {
+        if (capacidadeBloco < 4) {
+            throw new IllegalArgumentException("A capacidade do bloco deve ser pelo menos 4.");
+        }
+        this.capacidadeBloco = capacidadeBloco;
+    }
+
+    /**
+     * Localiza o bloco que contém o elemento no índice especificado, percorrendo os blocos
+     * a partir da cabeça ou da cauda, o que estiver mais próximo.
+     * O resultado fica em blocoLocalizado e posicaoLocalizada.
+     * @param indice um índice válido da lista
+     */
+    private void localizar(int indice) {
+        if (indice < tamanho / 2) {
+            Bloco bloco = cabeca;
+            while (indice >= bloco.quantidade) {
+                indice -= bloco.quantidade;
+                bloco = bloco.proximo;
+            }
+            blocoLocalizado = bloco;
+            posicaoLocalizada = indice;
+        } else {
+            Bloco bloco = cauda;
+            int restantes = tamanho - 1 - indice; // Elementos depois do procurado
+            while (restantes >= bloco.quantidade) {
+                restantes -= bloco.quantidade;
+                bloco = bloco.anterior;
+            }
+            blocoLocalizado = bloco;
+            posicaoLocalizada = bloco.quantidade - 1 - restantes;
+        }
+    }
+
+    /**
+     * Cria um novo bloco vazio e o liga logo após o bloco especificado (ou como cabeça, se for null).
+     */
+    private Bloco novoBlocoApos(Bloco bloco) {
+        Bloco novo = new Bloco();
+        if (bloco == null) {
+            novo.proximo = cabeca;
+            if (cabeca != null) cabeca.anterior = novo;
+            cabeca = novo;
+        } else {
+            novo.anterior = bloco;
+            novo.proximo = bloco.proximo;
+            if (bloco.proximo != null) bloco.proximo.anterior = novo;
+            bloco.proximo = novo;
+        }
+        if (novo.proximo == null) cauda = novo;
+        return novo;
+    }
+
+    /**
+     * Desliga o bloco especificado da cadeia.
+     */
+    private void desligarBloco(Bloco bloco) {
+        if (bloco.anterior != null) bloco.anterior.proximo = bloco.proximo;
+        else cabeca = bloco.proximo;
+        if (bloco.proximo != null) bloco.proximo.anterior = bloco.anterior;
+        else cauda = bloco.anterior;
+        bloco.anterior = null;
+        bloco.proximo = null;
+    }
+
+    /**
+     * Divide um bloco cheio ao meio, movendo a segunda metade para um novo bloco logo após ele.
+     */
+    private void dividir(Bloco bloco) {
+        Bloco novo = novoBlocoApos(bloco);
+        int metade = bloco.quantidade / 2;
+        int movidos = bloco.quantidade - metade;
+        System.arraycopy(bloco.valores, metade, novo.valores, 0, movidos);
+        Arrays.fill(bloco.valores, metade, bloco.quantidade, null);
+        novo.quantidade = movidos;
+        bloco.quantidade = metade;
+    }
+
+    /**
+     * Restaura a ocupação mínima de um bloco que ficou abaixo da metade, tomando elementos do bloco
+     * seguinte ou fundindo-se com ele. Um último bloco vazio é removido.
+     */
+    private void rebalancear(Bloco bloco) {
+        int minimo = capacidadeBloco / 2;
+        if (bloco.quantidade >= minimo) return;
+        Bloco seguinte = bloco.proximo;
+        if (seguinte == null) {
+            if (bloco.quantidade == 0) desligarBloco(bloco);
+            return;
+        }
+        if (bloco.quantidade + seguinte.quantidade <= capacidadeBloco) {
+            // Funde o bloco seguinte neste
+            System.arraycopy(seguinte.valores, 0, bloco.valores, bloco.quantidade, seguinte.quantidade);
+            bloco.quantidade += seguinte.quantidade;
+            desligarBloco(seguinte);
+        } else {
+            // Toma emprestado do bloco seguinte o suficiente para equilibrar os dois
+            int movidos = (seguinte.quantidade - bloco.quantidade) / 2;
+            System.arraycopy(seguinte.valores, 0, bloco.valores, bloco.quantidade, movidos);
+            System.arraycopy(seguinte.valores, movidos, seguinte.valores, 0, seguinte.quantidade - movidos);
+            Arrays.fill(seguinte.valores, seguinte.quantidade - movidos, seguinte.quantidade, null);
+            bloco.quantidade += movidos;
+            seguinte.quantidade -= movidos;
+        }
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + tamanho);
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista.
+     * O último bloco é preenchido até a capacidade antes que um novo seja criado.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        if (cauda == null || cauda.quantidade == capacidadeBloco) novoBlocoApos(cauda);
+        cauda.valores[cauda.quantidade++] = valor;
+        tamanho++;
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista.
+     * Se o bloco de destino estiver cheio, ele é dividido ao meio antes da inserção.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        if (indice < 0) indice = 0;
+        if (indice >= tamanho) {
+            adicionar(valor);
+            return;
+        }
+        localizar(indice);
+        Bloco bloco = blocoLocalizado;
+        int posicao = posicaoLocalizada;
+        if (bloco.quantidade == capacidadeBloco) {
+            dividir(bloco);
+            if (posicao > bloco.quantidade) {
+                posicao -= bloco.quantidade;
+                bloco = bloco.proximo;
+            }
+        }
+        System.arraycopy(bloco.valores, posicao, bloco.valores, posicao + 1, bloco.quantidade - posicao);
+        bloco.valores[posicao] = valor;
+        bloco.quantidade++;
+        tamanho++;
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Desenrolada está Vazia!");
+        return removerPorIndice(tamanho - 1);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Desenrolada está Vazia!");
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * Desloca quaisquer elementos subsequentes do mesmo bloco para a esquerda e reequilibra o bloco se preciso.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Desenrolada está Vazia!");
+        verificarIndice(indice);
+        localizar(indice);
+        Bloco bloco = blocoLocalizado;
+        int posicao = posicaoLocalizada;
+        E valor = bloco.valores[posicao];
+        bloco.quantidade--;
+        System.arraycopy(bloco.valores, posicao + 1, bloco.valores, posicao, bloco.quantidade - posicao);
+        bloco.valores[bloco.quantidade] = null; // Limpa a posição para coleta de lixo
+        tamanho--;
+        rebalancear(bloco);
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Desenrolada está Vazia!");
+        verificarIndice(indice);
+        localizar(indice);
+        return blocoLocalizado.valores[posicaoLocalizada];
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Desenrolada está Vazia!");
+        verificarIndice(indice);
+        localizar(indice);
+        blocoLocalizado.valores[posicaoLocalizada] = valor;
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Desenrolada está Vazia!");
+        int base = 0;
+        for (Bloco bloco = cabeca; bloco != null; bloco = bloco.proximo) {
+            for (int i = 0; i < bloco.quantidade; i++) {
+                E atual = bloco.valores[i];
+                if (valor == null ? atual == null : valor.equals(atual)) return base + i;
+            }
+            base += bloco.quantidade;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Remove todos os elementos desta lista.
+     * A lista ficará vazia após esta chamada retornar.
+     */
+    @Override
+    public void limpar() {
+        tamanho = 0;
+        cabeca = null;
+        cauda = null;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta,
+     * copiando cada bloco em bloco.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        E[] array = (E[]) new Object[tamanho];
+        int destino = 0;
+        for (Bloco bloco = cabeca; bloco != null; bloco = bloco.proximo) {
+            System.arraycopy(bloco.valores, 0, array, destino, bloco.quantidade);
+            destino += bloco.quantidade;
+        }
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista, preenchendo os blocos por completo.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        for (E valor : outraLista.paraArray()) {
+            adicionar(valor);
+        }
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * Os elementos a partir do índice são retirados, a lista recebe os novos elementos e depois os retirados,
+     * o que custa O(n + m) e deixa os blocos reconstruídos completamente cheios.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        E[] origem = outraLista.paraArray();
+        if (indice < 0) indice = 0;
+        if (indice >= tamanho) {
+            for (E valor : origem) adicionar(valor);
+            return;
+        }
+        E[] sufixo = truncar(indice);
+        for (E valor : origem) adicionar(valor);
+        for (E valor : sufixo) adicionar(valor);
+    }
+
+    /**
+     * Remove da lista todos os elementos a partir do índice especificado e os retorna em um array.
+     * O bloco que contém o índice passa a ser o último, e um último bloco pode ficar abaixo da metade.
+     * @param indice um índice válido da lista
+     * @return os elementos removidos, na sequência correta
+     */
+    @SuppressWarnings("unchecked")
+    private E[] truncar(int indice) {
+        E[] sufixo = (E[]) new Object[tamanho - indice];
+        localizar(indice);
+        Bloco bloco = blocoLocalizado;
+        int posicao = posicaoLocalizada;
+        int destino = bloco.quantidade - posicao;
+        System.arraycopy(bloco.valores, posicao, sufixo, 0, destino);
+        for (Bloco seguinte = bloco.proximo; seguinte != null; seguinte = seguinte.proximo) {
+            System.arraycopy(seguinte.valores, 0, sufixo, destino, seguinte.quantidade);
+            destino += seguinte.quantidade;
+        }
+        Arrays.fill(bloco.valores, posicao, bloco.quantidade, null);
+        bloco.quantidade = posicao;
+        bloco.proximo = null;
+        cauda = bloco;
+        if (posicao == 0) desligarBloco(bloco);
+        tamanho = indice;
+        return sufixo;
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os elementos são ordenados em um array temporário e gravados de volta nos mesmos blocos.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        E[] array = paraArray();
+        OrdenacaoAdaptativa.ordenar(array, 0, array.length, comparador);
+        int origem = 0;
+        for (Bloco bloco = cabeca; bloco != null; bloco = bloco.proximo) {
+            System.arraycopy(array, origem, bloco.valores, 0, bloco.quantidade);
+            origem += bloco.quantidade;
+        }
+    }
+
+    /**
+     * Retorna um iterador que percorre os blocos desta lista em sequência.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Bloco bloco = cabeca;
+            private int posicao = 0;
+
+            @Override
+            public boolean hasNext() {
+                return bloco != null && posicao < bloco.quantidade;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException("Não há mais elementos na lista.");
+                E valor = bloco.valores[posicao++];
+                if (posicao == bloco.quantidade) {
+                    bloco = bloco.proximo;
+                    posicao = 0;
+                }
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+        Iterator<E> iterador = iterator();
+        while (iterador.hasNext()) {
+            dadosLista.append(iterador.next());
+            if (iterador.hasNext()) {
+                dadosLista.append(", ");
+            }
+        }
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -1,9 +1,23 @@
 package colecoes.ListaEncadeada;
+import colecoes.IndiceHash;
 import colecoes.Lista;
 
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 /**
  * Classe abstrata que serve como base para implementações de listas encadeadas.
  * Define a estrutura básica de um nó e operações comuns a listas encadeadas.
+ * <p>
+ * Opcionalmente, os nós removidos podem ser reciclados (veja {@link #ativarReciclagem(int)}): eles são guardados
+ * em uma lista de nós livres limitada, própria de cada lista, e reaproveitados nas inserções seguintes,
+ * reduzindo a produção de lixo em cargas com muitas inserções e remoções.
+ * <p>
+ * Também opcionalmente, a lista mantém um índice hash que associa cada valor aos nós que o contêm
+ * (veja {@link #ativarIndiceHash()}), tornando {@code contem} O(1) esperado.
  * @param <E> o tipo de elementos que esta lista irá conter
  */
 public abstract class ListaDinamica<E> implements Lista<E> {
@@ -21,19 +35,172 @@ public abstract class ListaDinamica<E> implements Lista<E> {
         }
     }
 
+    /**
+     * Classe interna que representa uma cadeia de nós ainda não ligada a uma lista.
+     */
+    protected class Cadeia{
+        No primeiro;
+        No ultimo;
+        int tamanho;
+    }
+
     protected int tamanho;
     protected No cabeca;
     protected No cauda;
 
+    // Reciclagem de nós: lista de nós livres ligada por 'proximo' (desativada enquanto o limite for zero)
+    private No livres;
+    private int quantidadeLivres;
+    private int limiteReciclagem;
+    private long nosAlocados;
+    private long nosReutilizados;
+
+    protected IndiceHash<E> indiceHash; // null enquanto o índice hash estiver desativado
+    protected int modificacoes; // Alterações estruturais, para que as sublistas detectem modificações externas
+
+    /**
+     * Ativa o índice hash desta lista, construindo-o a partir dos nós atuais em O(n).
+     * A partir daí todas as modificações da lista também atualizam o índice.
+     */
+    public void ativarIndiceHash(){
+        if (indiceHash != null) return;
+        indiceHash = new IndiceHash<>();
+        for (No atual = cabeca; atual != null; atual = atual.proximo) {
+            indiceHash.adicionar(atual.valor, atual);
+        }
+    }
+
+    /**
+     * Desativa o índice hash desta lista, liberando a memória ocupada por ele.
+     */
+    public void desativarIndiceHash(){
+        indiceHash = null;
+    }
+
+    /**
+     * Retorna o número de valores distintos no índice hash, ao qual a memória extra é proporcional.
+     * @return o número de entradas do índice, ou 0 se ele estiver desativado
+     */
+    public int entradasIndiceHash(){
+        return indiceHash == null ? 0 : indiceHash.entradas();
+    }
+
+    /**
+     * Retorna quantas atualizações o índice hash recebeu desde que foi ativado.
+     * @return o número de atualizações do índice, ou 0 se ele estiver desativado
+     */
+    public long atualizacoesIndiceHash(){
+        return indiceHash == null ? 0 : indiceHash.atualizacoes();
+    }
+
+    /**
+     * Registra um nó recém-ligado no índice hash, se ativo.
+     * @param no o nó ligado à lista
+     */
+    protected void indexar(No no){
+        if (indiceHash != null) indiceHash.adicionar(no.valor, no);
+    }
+
+    /**
+     * Retira um nó do índice hash, se ativo. Deve ser chamado antes de o nó ser liberado ou ter o valor trocado.
+     * @param no o nó desligado da lista
+     */
+    protected void desindexar(No no){
+        if (indiceHash != null) indiceHash.remover(no.valor, no);
+    }
+
+    /**
+     * Ativa a reciclagem de nós: até limite nós removidos ficam guardados para serem reaproveitados.
+     * Os nós reciclados têm o valor descartado ao serem liberados, para não reter os elementos removidos.
+     * Como as listas não são seguras para uso concorrente, a lista de nós livres é própria de cada lista
+     * e não precisa ser local à thread.
+     * @param limite a quantidade máxima de nós livres guardados
+     * @throws IllegalArgumentException se o limite for menor ou igual a zero
+     */
+    public void ativarReciclagem(int limite){
+        if (limite <= 0) throw new IllegalArgumentException("O limite de reciclagem deve ser positivo.");
+        limiteReciclagem = limite;
+        while (quantidadeLivres > limite) {
+            livres = livres.proximo;
+            quantidadeLivres--;
+        }
+    }
+
+    /**
+     * Desativa a reciclagem de nós e descarta os nós livres guardados.
+     */
+    public void desativarReciclagem(){
+        limiteReciclagem = 0;
+        livres = null;
+        quantidadeLivres = 0;
+    }
+
+    /**
+     * Retorna quantos nós novos esta lista já alocou.
+     * @return o número de nós alocados
+     */
+    public long nosAlocados(){
+        return nosAlocados;
+    }
+
+    /**
+     * Retorna quantos nós esta lista já reaproveitou da lista de nós livres, em vez de alocá-los.
+     * @return o número de nós reutilizados
+     */
+    public long nosReutilizados(){
+        return nosReutilizados;
+    }
+
+    /**
+     * Retorna um nó com o valor especificado, reaproveitando um nó livre se houver.
+     * @param valor o valor do nó
+     * @return um nó desligado, contendo o valor especificado
+     */
+    protected No novoNo(E valor){
+        if (livres == null) {
+            nosAlocados++;
+            return new No(valor);
+        }
+        No no = livres;
+        livres = no.proximo;
+        quantidadeLivres--;
+        nosReutilizados++;
+        no.proximo = null;
+        no.valor = valor;
+        return no;
+    }
+
+    /**
+     * Devolve um nó já desligado da lista à lista de nós livres, se a reciclagem estiver ativa e houver espaço.
+     * @param no o nó removido
+     */
+    protected void liberarNo(No no){
+        if (quantidadeLivres >= limiteReciclagem) return;
+        no.valor = null;
+        no.anterior = null;
+        no.proximo = livres;
+        livres = no;
+        quantidadeLivres++;
+    }
+
     /**
      * Remove todos os elementos desta lista.
-     * A lista ficará vazia após esta chamada retornar.
+     * A lista ficará vazia após esta chamada retornar. Com a reciclagem ativa, os nós são
+     * guardados até que a lista de nós livres esteja cheia.
      */
     @Override
     public void limpar(){
+        No atual = cabeca;
+        while (atual != null && quantidadeLivres < limiteReciclagem) {
+            No proximo = atual.proximo;
+            liberarNo(atual);
+            atual = proximo;
+        }
         tamanho = 0;
+        modificacoes++;
         cabeca = null;
         cauda = null;
+        if (indiceHash != null) indiceHash.limpar();
     }
 
     /**
@@ -76,6 +243,287 @@ public abstract class ListaDinamica<E> implements Lista<E> {
         return noAuxiliar;
     }
 
+    /**
+     * Cria, em uma única passada, uma nova cadeia de nós com os elementos da lista especificada.
+     * Se a origem também for uma lista encadeada, seus nós são percorridos diretamente; caso contrário,
+     * os elementos são obtidos com uma única chamada a {@code paraArray()} (nunca com {@code obter(i)} em laço).
+     * @param origem a lista cujos elementos serão copiados
+     * @param ligarAnterior true para preencher também as referências {@code anterior}
+     * @return a nova cadeia, que pode estar vazia
+     */
+    protected Cadeia copiarCadeia(Lista<E> origem, boolean ligarAnterior){
+        Cadeia cadeia = new Cadeia();
+        if (origem instanceof ListaDinamica) {
+            No atual = ((ListaDinamica<E>) origem).cabeca;
+            int quantidade = origem.tamanho(); // Lido antes, caso a origem seja esta própria lista
+            for (int i = 0; i < quantidade; i++) {
+                anexarNaCadeia(cadeia, novoNo(atual.valor), ligarAnterior);
+                atual = atual.proximo;
+            }
+        } else {
+            for (E valor : origem.paraArray()) {
+                anexarNaCadeia(cadeia, novoNo(valor), ligarAnterior);
+            }
+        }
+        return cadeia;
+    }
+
+    private void anexarNaCadeia(Cadeia cadeia, No no, boolean ligarAnterior){
+        if (cadeia.primeiro == null) {
+            cadeia.primeiro = no;
+        } else {
+            cadeia.ultimo.proximo = no;
+            if (ligarAnterior) no.anterior = cadeia.ultimo;
+        }
+        cadeia.ultimo = no;
+        cadeia.tamanho++;
+    }
+
+    /**
+     * Liga uma cadeia de nós nesta lista, na posição especificada, em O(1) nas extremidades
+     * (ou no custo de localizar a posição, no meio da lista).
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice a posição que o primeiro nó da cadeia ocupará
+     * @param cadeia a cadeia a ser ligada
+     * @param ligarAnterior true para ajustar também as referências {@code anterior}
+     */
+    protected void inserirCadeia(int indice, Cadeia cadeia, boolean ligarAnterior){
+        if (cadeia.tamanho == 0) return;
+        if (indiceHash != null) {
+            No atual = cadeia.primeiro;
+            for (int i = 0; i < cadeia.tamanho; i++) {
+                indexar(atual);
+                atual = atual.proximo;
+            }
+        }
+        if (estaVazia()) {
+            cabeca = cadeia.primeiro;
+            cauda = cadeia.ultimo;
+        } else if (indice <= 0) {
+            cadeia.ultimo.proximo = cabeca;
+            if (ligarAnterior) cabeca.anterior = cadeia.ultimo;
+            cabeca = cadeia.primeiro;
+        } else if (indice >= tamanho) {
+            cauda.proximo = cadeia.primeiro;
+            if (ligarAnterior) cadeia.primeiro.anterior = cauda;
+            cauda = cadeia.ultimo;
+        } else {
+            No noAnterior = obterNo(indice - 1);
+            cadeia.ultimo.proximo = noAnterior.proximo;
+            if (ligarAnterior) {
+                noAnterior.proximo.anterior = cadeia.ultimo;
+                cadeia.primeiro.anterior = noAnterior;
+            }
+            noAnterior.proximo = cadeia.primeiro;
+        }
+        tamanho += cadeia.tamanho;
+        modificacoes++;
+    }
+
+    /**
+     * Retira todos os nós da lista especificada, deixando-a vazia, e os devolve como uma cadeia, em O(1).
+     * @param origem a lista cujos nós serão retirados
+     * @return a cadeia com os nós retirados
+     * @throws IllegalArgumentException se a origem for esta própria lista
+     */
+    protected Cadeia retirarCadeia(ListaDinamica<E> origem){
+        if (origem == this) throw new IllegalArgumentException("Uma lista não pode transferir elementos para si mesma.");
+        Cadeia cadeia = new Cadeia();
+        cadeia.primeiro = origem.cabeca;
+        cadeia.ultimo = origem.cauda;
+        cadeia.tamanho = origem.tamanho;
+        origem.cabeca = null; // Os nós agora pertencem à cadeia e não devem ser reciclados pela origem
+        origem.limpar();
+        return cadeia;
+    }
+
+    /**
+     * Desliga, em uma única passada pelo intervalo [de, ate), todos os nós cujo valor satisfaz o predicado especificado.
+     * Cada nó removido é desligado na hora, em O(1), retirado do índice hash e devolvido à reciclagem, de modo que
+     * a lista continua consistente mesmo se o predicado lançar uma exceção no meio da passada.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @param ligarAnterior true para ajustar também as referências {@code anterior} (listas duplamente encadeadas)
+     * @return o número de elementos removidos
+     */
+    protected int removerNosSe(int de, int ate, Predicate<? super E> filtro, boolean ligarAnterior) {
+        Objects.requireNonNull(filtro);
+        if (de >= ate) return 0;
+        int tamanhoOriginal = tamanho;
+        No ultimoMantido = de == 0 ? null : obterNo(de - 1);
+        No atual = ultimoMantido == null ? cabeca : ultimoMantido.proximo;
+        for (int i = de; i < ate; i++) {
+            No proximo = atual.proximo;
+            if (filtro.test(atual.valor)) {
+                if (ultimoMantido == null) cabeca = proximo;
+                else ultimoMantido.proximo = proximo;
+                if (atual == cauda) cauda = ultimoMantido;
+                else if (ligarAnterior) proximo.anterior = ultimoMantido;
+                desindexar(atual);
+                liberarNo(atual);
+                tamanho--;
+                modificacoes++;
+            } else {
+                ultimoMantido = atual;
+            }
+            atual = proximo;
+        }
+        return tamanhoOriginal - tamanho;
+    }
+
+    /**
+     * Desliga de uma só vez os nós do intervalo [de, ate), retirando-os do índice hash e devolvendo-os à reciclagem.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param ligarAnterior true para ajustar também as referências {@code anterior} (listas duplamente encadeadas)
+     */
+    protected void removerIntervalo(int de, int ate, boolean ligarAnterior) {
+        if (de >= ate) return;
+        No antes = de == 0 ? null : obterNo(de - 1);
+        No atual = antes == null ? cabeca : antes.proximo;
+        for (int i = de; i < ate; i++) {
+            No proximo = atual.proximo;
+            desindexar(atual);
+            liberarNo(atual);
+            atual = proximo;
+        }
+        No depois = ate == tamanho ? null : atual;
+        if (antes == null) cabeca = depois;
+        else antes.proximo = depois;
+        if (depois == null) cauda = antes;
+        else if (ligarAnterior) depois.anterior = antes;
+        tamanho -= ate - de;
+        modificacoes++;
+    }
+
+    /**
+     * Ordena os nós desta lista por intercalação ascendente (bottom-up), religando a cadeia existente
+     * em vez de copiar os valores. A ordenação é estável, custa O(n log n) e usa memória extra O(1).
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     * @param ligarAnterior true para reconstruir também as referências {@code anterior} (listas duplamente encadeadas)
+     */
+    protected void ordenarNos(Comparator<E> comparador, boolean ligarAnterior) {
+        ordenarIntervalo(0, tamanho, comparador, ligarAnterior);
+    }
+
+    /**
+     * Ordena os nós do intervalo [de, ate) por intercalação ascendente (bottom-up). O intervalo é isolado do
+     * restante da cadeia, ordenado religando os nós e então ligado de volta entre os seus vizinhos.
+     * A cada passada, sublistas ordenadas de tamanho largura são intercaladas duas a duas.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     * @param ligarAnterior true para reconstruir também as referências {@code anterior} (listas duplamente encadeadas)
+     */
+    protected void ordenarIntervalo(int de, int ate, Comparator<E> comparador, boolean ligarAnterior) {
+        modificacoes++;
+        int quantidade = ate - de;
+        if (quantidade < 2) return;
+        No antes = de == 0 ? null : obterNo(de - 1);
+        No sentinela = new No(null);
+        sentinela.proximo = antes == null ? cabeca : antes.proximo;
+        No ultimo = sentinela.proximo;
+        for (int i = 1; i < quantidade; i++) {
+            ultimo = ultimo.proximo;
+        }
+        No depois = ultimo.proximo;
+        ultimo.proximo = null; // Isola o intervalo do restante da cadeia
+        for (int largura = 1; largura < quantidade; largura <<= 1) {
+            No restante = sentinela.proximo;
+            ultimo = sentinela;
+            while (restante != null) {
+                No esquerda = restante;
+                No direita = separar(esquerda, largura);
+                restante = separar(direita, largura);
+
+                while (esquerda != null && direita != null) {
+                    No menor;
+                    if (comparador.compare(direita.valor, esquerda.valor) < 0) {
+                        menor = direita;
+                        direita = direita.proximo;
+                    } else {
+                        menor = esquerda; // Em caso de empate a esquerda vence, mantendo a estabilidade
+                        esquerda = esquerda.proximo;
+                    }
+                    ultimo.proximo = menor;
+                    if (ligarAnterior) menor.anterior = ultimo;
+                    ultimo = menor;
+                }
+                No sobra = (esquerda != null) ? esquerda : direita;
+                ultimo.proximo = sobra;
+                while (sobra != null) {
+                    if (ligarAnterior) sobra.anterior = ultimo;
+                    ultimo = sobra;
+                    sobra = sobra.proximo;
+                }
+            }
+        }
+        // Liga o intervalo ordenado de volta entre os seus vizinhos
+        if (antes == null) cabeca = sentinela.proximo;
+        else antes.proximo = sentinela.proximo;
+        if (ligarAnterior) sentinela.proximo.anterior = antes; // Desfaz a ligação com o sentinela
+        ultimo.proximo = depois;
+        if (depois == null) cauda = ultimo;
+        else if (ligarAnterior) depois.anterior = ultimo;
+        sentinela.proximo = null;
+    }
+
+    /**
+     * Verifica se o intervalo [de, ate) é válido para uma sublista desta lista.
+     * @param de o índice inicial (inclusivo)
+     * @param ate o índice final (exclusivo)
+     * @throws IndexOutOfBoundsException se o intervalo for inválido (de < 0 || ate > tamanho() || de > ate)
+     */
+    protected void verificarIntervalo(int de, int ate){
+        if (de < 0 || ate > tamanho || de > ate) {
+            throw new IndexOutOfBoundsException("Intervalo inválido [" + de + ", " + ate + ") para o tamanho " + tamanho);
+        }
+    }
+
+    /**
+     * Separa os primeiros quantidade nós da cadeia iniciada em inicio do restante.
+     * @param inicio o primeiro nó da cadeia (pode ser null)
+     * @param quantidade o número de nós que devem permanecer na primeira parte
+     * @return o primeiro nó da parte restante, ou null se não houver
+     */
+    private No separar(No inicio, int quantidade) {
+        for (int i = 1; inicio != null && i < quantidade; i++) {
+            inicio = inicio.proximo;
+        }
+        if (inicio == null) return null;
+        No restante = inicio.proximo;
+        inicio.proximo = null;
+        return restante;
+    }
+
+    /**
+     * Retorna um iterador que percorre os nós desta lista a partir da cabeça,
+     * de modo que a iteração completa custa O(n), e não O(n²) como em um laço com {@code obter(i)}.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private No atual = cabeca;
+            private int restantes = tamanho;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0;
+            }
+
+            @Override
+            public E next() {
+                if (restantes <= 0) throw new NoSuchElementException("Não há mais elementos na lista.");
+                E valor = atual.valor;
+                atual = atual.proximo;
+                restantes--;
+                return valor;
+            }
+        };
+    }
+
     /**
      * Retorna uma representação em string desta lista.
      * @return uma representação em string desta lista
@@ -3,22 +3,30 @@ package colecoes.ListaEncadeada;
 import excecoes.ListaVaziaExcecao;
 
 import java.util.Comparator;
+import java.util.function.Predicate;
 
 /**
  * Implementação de uma lista duplamente encadeada que estende {@link ListaDinamica}.
  * Cada elemento (nó) nesta lista contém referências para o próximo e para o elemento anterior,
  * facilitando a navegação em ambas as direções.
+ * <p>
+ * A lista memoriza o último nó acessado por posição e o seu índice (o dedo). Cada busca por índice parte
+ * do ponto mais próximo entre a cabeça, a cauda e o dedo, de modo que percorrer a lista com
+ * {@code obter(i)}, {@code obter(i + 1)}, ... custa O(1) por chamada em vez de O(n).
  * @param <E> o tipo de elementos que esta lista irá conter
  */
 public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
 
+    protected No dedo; // Último nó acessado por posição, ou null se não houver dedo válido
+    protected int indiceDedo;
+
     /**
      * Adiciona o elemento especificado ao final desta lista.
      * @param valor o elemento a ser adicionado
      */
     @Override
     public void adicionar(E valor) {
-        No novoNo = new No(valor);
+        No novoNo = novoNo(valor);
         if(estaVazia()){
             cabeca = novoNo;
             cauda = novoNo;
@@ -27,7 +35,9 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
             cauda.proximo = novoNo;
             cauda = novoNo;
         }
+        indexar(novoNo);
         tamanho++;
+        modificacoes++;
         
     }
 
@@ -40,6 +50,7 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
     @Override
     public boolean contem(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Duplamente Encadeada está Vazia!");
+        if(indiceHash != null) return indiceHash.contem(valor);
         return indiceDe(valor) != -1;
     }
 
@@ -63,7 +74,7 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
      */
     @Override
     public void inserir(E valor) {
-        No novoNo = new No(valor);
+        No novoNo = novoNo(valor);
         if(estaVazia()){
             cabeca = novoNo;
             cauda = novoNo;
@@ -72,13 +83,17 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
             cabeca.anterior = novoNo;
             cabeca = novoNo;
         }
+        if(dedo != null) indiceDedo++; // O nó memorizado foi deslocado uma posição para a direita
+        indexar(novoNo);
         tamanho++;
+        modificacoes++;
         
     }
 
     /**
      * Retorna o nó na posição especificada nesta lista, otimizando a busca
-     * ao começar da cabeça ou da cauda, dependendo da proximidade do índice.
+     * ao começar da cabeça, da cauda ou do dedo, dependendo de qual estiver mais próximo do índice.
+     * O nó encontrado passa a ser o novo dedo.
      * @param indice o índice do nó a ser retornado
      * @return o nó na posição especificada
      * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
@@ -88,19 +103,28 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
         if (indice < 0 || indice >= tamanho) {
             throw new IndexOutOfBoundsException("Índice: " + indice + ", Tamanho: " + tamanho);
         }
-        if (indice < tamanho / 2) {
-            No noAuxiliar = cabeca;
-            for (int i = 0; i < indice; i++) {
-                noAuxiliar = noAuxiliar.proximo;
-            }
-            return noAuxiliar;
+        No noAuxiliar;
+        int i;
+        int distanciaExtremo = Math.min(indice, tamanho - 1 - indice);
+        if (dedo != null && Math.abs(indice - indiceDedo) < distanciaExtremo) {
+            noAuxiliar = dedo;
+            i = indiceDedo;
+        } else if (indice < tamanho / 2) {
+            noAuxiliar = cabeca;
+            i = 0;
         } else {
-            No noAuxiliar = cauda;
-            for (int i = tamanho - 1; i > indice; i--) {
-                noAuxiliar = noAuxiliar.anterior;
-            }
-            return noAuxiliar;
+            noAuxiliar = cauda;
+            i = tamanho - 1;
+        }
+        for (; i < indice; i++) {
+            noAuxiliar = noAuxiliar.proximo;
         }
+        for (; i > indice; i--) {
+            noAuxiliar = noAuxiliar.anterior;
+        }
+        dedo = noAuxiliar;
+        indiceDedo = indice;
+        return noAuxiliar;
     }
 
     /**
@@ -117,14 +141,17 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
         }else if(indice >= tamanho){
             adicionar(valor);
         }else{
-            No novoNo = new No(valor);
+            No novoNo = novoNo(valor);
             No noAuxiliar = obterNo(indice);
             novoNo.proximo = noAuxiliar;
             novoNo.anterior = noAuxiliar.anterior;
             noAuxiliar.anterior.proximo = novoNo;
             noAuxiliar.anterior = novoNo;
+            dedo = novoNo; // O novo nó ocupa o índice que o dedo apontava
+            indexar(novoNo);
+            tamanho++;
+            modificacoes++;
         }
-        tamanho++;
     }
 
     /**
@@ -149,9 +176,13 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
             valor = noParaRemover.valor;
             noParaRemover.anterior.proximo = noParaRemover.proximo;
             noParaRemover.proximo.anterior = noParaRemover.anterior;
+            dedo = noParaRemover.proximo; // O sucessor passa a ocupar o índice do nó removido
             noParaRemover.proximo = null; // Ajuda na coleta de lixo
             noParaRemover.anterior = null; // Ajuda na coleta de lixo
+            desindexar(noParaRemover);
+            liberarNo(noParaRemover);
             tamanho--;
+            modificacoes++;
         }
         return valor;
     }
@@ -164,14 +195,19 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
     @Override
     public E removerPrimeiro() throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Duplamente Encadeada está Vazia!");
-        E valor = cabeca.valor;
-        cabeca = cabeca.proximo;
+        No noParaRemover = cabeca;
+        E valor = noParaRemover.valor;
+        if(dedo != null && --indiceDedo < 0) dedo = null; // O dedo apontava para o nó removido
+        cabeca = noParaRemover.proximo;
         if(cabeca != null){
             cabeca.anterior = null;
         }else{
             cauda = null; // A lista ficou vazia
         }
+        desindexar(noParaRemover);
+        liberarNo(noParaRemover);
         tamanho--;
+        modificacoes++;
         return valor;
     }
 
@@ -183,26 +219,42 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
     @Override
     public E removerUltimo() throws ListaVaziaExcecao {
         if(estaVazia()){ throw new ListaVaziaExcecao("Lista Duplamente Encadeada está Vazia!");}
-        E valor = cauda.valor;
-        cauda = cauda.anterior;
+        No noParaRemover = cauda;
+        E valor = noParaRemover.valor;
+        if(dedo == noParaRemover) dedo = null;
+        cauda = noParaRemover.anterior;
         if(cauda != null){
             cauda.proximo = null;
         }else{
             cabeca = null; // A lista ficou vazia
         }
+        desindexar(noParaRemover);
+        liberarNo(noParaRemover);
         tamanho--;
+        modificacoes++;
         return valor;
     }
 
     /**
      * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * Com o índice hash ativo, valores ausentes são descartados em O(1) esperado e valores que ocorrem
+     * uma única vez são desligados diretamente pelo nó, também em O(1) esperado.
      * @param valor o elemento a ser removido desta lista, se presente
      * @return true se esta lista continha o elemento especificado
      * @throws ListaVaziaExcecao se esta lista estiver vazia
      */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean remover(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Duplamente Encadeada está Vazia!");
+        if(indiceHash != null){
+            if(!indiceHash.contem(valor)) return false;
+            No unico = (No) indiceHash.referenciaUnica(valor);
+            if(unico != null){
+                removerNo(unico);
+                return true;
+            }
+        }
         int indice = indiceDe(valor);
         if (indice != -1) {
             removerPorIndice(indice);
@@ -211,6 +263,29 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
         return false;
     }
 
+    /**
+     * Desliga um nó qualquer desta lista, sem precisar do seu índice.
+     * Como a posição do nó não é conhecida, o dedo é descartado.
+     * @param noParaRemover o nó a ser removido
+     */
+    protected void removerNo(No noParaRemover){
+        if(noParaRemover == cabeca){
+            removerPrimeiro();
+        }else if(noParaRemover == cauda){
+            removerUltimo();
+        }else{
+            noParaRemover.anterior.proximo = noParaRemover.proximo;
+            noParaRemover.proximo.anterior = noParaRemover.anterior;
+            noParaRemover.proximo = null; // Ajuda na coleta de lixo
+            noParaRemover.anterior = null; // Ajuda na coleta de lixo
+            dedo = null;
+            desindexar(noParaRemover);
+            liberarNo(noParaRemover);
+            tamanho--;
+            modificacoes++;
+        }
+    }
+
     /**
      * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
      * @param indice o índice do elemento a ser substituído
@@ -222,7 +297,10 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
     public void definir(int indice, E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Duplamente Encadeada está Vazia!");
         verificarIndice(indice);
-        obterNo(indice).valor = valor;
+        No no = obterNo(indice);
+        desindexar(no);
+        no.valor = valor;
+        indexar(no);
     }
 
     /**
@@ -236,6 +314,7 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
     @Override
     public int indiceDe(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Duplamente Encadeada está Vazia!");
+        if(indiceHash != null && !indiceHash.contem(valor)) return -1;
         No atual = cabeca;
         for (int i = 0; i < tamanho; i++) {
             if (valor == null) {
@@ -264,45 +343,140 @@ public class ListaDuplamenteEncadeada<E> extends ListaDinamica<E> {
         return array;
     }
 
+    /**
+     * Remove todos os elementos desta lista e descarta o dedo.
+     */
+    @Override
+    public void limpar() {
+        super.limpar();
+        dedo = null;
+    }
+
+    /**
+     * Liga a cadeia na posição especificada. Se ela entrar antes do dedo, o índice do dedo é deslocado.
+     * @param indice a posição que o primeiro nó da cadeia ocupará
+     * @param cadeia a cadeia a ser ligada
+     * @param ligarAnterior true para ajustar também as referências {@code anterior}
+     */
+    @Override
+    protected void inserirCadeia(int indice, Cadeia cadeia, boolean ligarAnterior) {
+        No dedoAnterior = dedo;
+        super.inserirCadeia(indice, cadeia, ligarAnterior);
+        // A busca interna pode ter movido o dedo para antes da cadeia; só o dedo antigo precisa de ajuste
+        if (dedo != null && dedo == dedoAnterior && indice <= indiceDedo) indiceDedo += cadeia.tamanho;
+    }
+
     /**
      * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * Os novos nós são criados em uma única passada sobre a origem e ligados à cauda de uma só vez.
      * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
      */
     @Override
     public void adicionarTodos(colecoes.Lista<E> outraLista) {
-        for (int i = 0; i < outraLista.tamanho(); i++) {
-            try {
-                adicionar(outraLista.obter(i));
-            } catch (ListaVaziaExcecao e) {
-                // Não deve acontecer se outraLista.tamanho() estiver correto
-            }
-        }
+        inserirCadeia(tamanho, copiarCadeia(outraLista, true), true);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * Os novos nós são criados em uma única passada sobre a origem e ligados à lista de uma só vez.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, colecoes.Lista<E> outraLista) {
+        inserirCadeia(indice, copiarCadeia(outraLista, true), true);
+    }
+
+    /**
+     * Move todos os elementos da lista especificada para o final desta lista, em O(1).
+     * Os nós da outra lista são religados a esta lista, sem cópia, e a outra lista fica vazia.
+     * @param outraLista a lista cujos elementos devem ser movidos para esta lista
+     * @throws IllegalArgumentException se a outra lista for esta própria lista
+     */
+    public void transferirTodos(ListaDuplamenteEncadeada<E> outraLista) {
+        inserirCadeia(tamanho, retirarCadeia(outraLista), true);
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado em uma única passada,
+     * desligando cada nó removido sem voltar ao início da lista, em O(n) no total.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        return removerNosSe(0, tamanho, filtro, true) > 0;
     }
 
     /**
      * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os nós existentes são religados no lugar por intercalação, sem copiar os elementos para um array;
+     * as referências {@code anterior} e a cauda são corrigidas na mesma passada.
      * @param comparador o {@code Comparator} usado para comparar elementos da lista
      */
     @Override
     public void ordenar(Comparator<E> comparador) {
-        if (estaVazia()) return;
-        E[] array = paraArray();
-
-        for (int i = 0; i < array.length - 1; i++) {
-            for (int j = 0; j < array.length - 1 - i; j++) {
-                if (comparador.compare(array[j], array[j + 1]) > 0) {
-                    E temp = array[j];
-                    array[j] = array[j + 1];
-                    array[j + 1] = temp;
-                }
-            }
-        }
-        limpar();
-        for (E elemento : array) {
-            adicionar(elemento);
+        dedo = null; // Os nós mudam de posição
+        ordenarNos(comparador, true);
+    }
+
+    /**
+     * Retorna uma visão do intervalo [de, ate) desta lista, apoiada diretamente nos seus nós, sem cópia.
+     * Iteração, {@code ordenar} e {@code limpar} da sublista atuam sobre os nós do intervalo, e as alterações
+     * feitas pela sublista se refletem nesta lista. Qualquer alteração estrutural feita nesta lista por fora
+     * da sublista a invalida: a próxima operação da sublista lança {@link java.util.ConcurrentModificationException}.
+     * @param de o índice inicial da sublista (inclusivo)
+     * @param ate o índice final da sublista (exclusivo)
+     * @return uma visão do intervalo especificado
+     * @throws IndexOutOfBoundsException se o intervalo for inválido (de < 0 || ate > tamanho() || de > ate)
+     */
+    public colecoes.Lista<E> subLista(int de, int ate) {
+        verificarIntervalo(de, ate);
+        return new SubListaEncadeada<>(this, de, ate, true);
+    }
+
+    /**
+     * Desliga os nós do intervalo que satisfazem o predicado e descarta o dedo, que pode apontar para um deles.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @param ligarAnterior true para ajustar também as referências {@code anterior}
+     * @return o número de elementos removidos
+     */
+    @Override
+    protected int removerNosSe(int de, int ate, Predicate<? super E> filtro, boolean ligarAnterior) {
+        try {
+            return super.removerNosSe(de, ate, filtro, ligarAnterior);
+        } finally {
+            dedo = null;
         }
     }
 
+    /**
+     * Desliga os nós do intervalo e descarta o dedo, que pode apontar para um deles.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param ligarAnterior true para ajustar também as referências {@code anterior}
+     */
+    @Override
+    protected void removerIntervalo(int de, int ate, boolean ligarAnterior) {
+        super.removerIntervalo(de, ate, ligarAnterior);
+        dedo = null;
+    }
+
+    /**
+     * Ordena os nós do intervalo e descarta o dedo, pois os nós mudam de posição.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     * @param ligarAnterior true para reconstruir também as referências {@code anterior}
+     */
+    @Override
+    protected void ordenarIntervalo(int de, int ate, Comparator<E> comparador, boolean ligarAnterior) {
+        super.ordenarIntervalo(de, ate, comparador, ligarAnterior);
+        dedo = null;
+    }
+
     /**
      * Retorna uma representação em string desta lista em ordem reversa.
      * @return uma representação em string desta lista em ordem reversa
@@ -3,6 +3,7 @@ package colecoes.ListaEncadeada;
 import excecoes.ListaVaziaExcecao;
 
 import java.util.Comparator;
+import java.util.function.Predicate;
 
 /**
  * Implementação de uma lista simplesmente encadeada que estende {@link ListaDinamica}.
@@ -17,14 +18,16 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
      */
     @Override
     public void adicionar(E valor) {
-        No novoNo = new No(valor);
+        No novoNo = novoNo(valor);
         if(estaVazia()){
             cabeca = novoNo;            
         }else{
             cauda.proximo = novoNo;
         }
         cauda = novoNo;
+        indexar(novoNo);
         tamanho++;
+        modificacoes++;
         
     }
     
@@ -37,6 +40,7 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
     @Override
     public boolean contem(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Encadeada está Vazia!");
+        if(indiceHash != null) return indiceHash.contem(valor);
         return indiceDe(valor) != -1;
     }
     
@@ -60,14 +64,16 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
      */
     @Override
     public void inserir(E valor) {
-        No novoNo = new No(valor);
+        No novoNo = novoNo(valor);
         if(estaVazia()){
             cauda = novoNo;        
         }else{
             novoNo.proximo = cabeca;
         }
         cabeca = novoNo;
+        indexar(novoNo);
         tamanho++;
+        modificacoes++;
     }
     
     /**
@@ -84,11 +90,13 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
         }else if(indice >= tamanho){
             adicionar(valor);
         }else{
-            No novoNo = new No(valor);
+            No novoNo = novoNo(valor);
             No noAuxiliar = obterNo(indice-1);
             novoNo.proximo = noAuxiliar.proximo;
             noAuxiliar.proximo = novoNo;
+            indexar(novoNo);
             tamanho++;
+            modificacoes++;
         }
         
     }
@@ -111,9 +119,13 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
             valor = removerUltimo();
         }else{
             No noAuxiliar = obterNo(indice-1);
-            valor = noAuxiliar.proximo.valor;
-            noAuxiliar.proximo = noAuxiliar.proximo.proximo;
+            No noParaRemover = noAuxiliar.proximo;
+            valor = noParaRemover.valor;
+            noAuxiliar.proximo = noParaRemover.proximo;
+            desindexar(noParaRemover);
+            liberarNo(noParaRemover);
             tamanho--;
+            modificacoes++;
         }
 
         return valor;
@@ -127,12 +139,16 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
     @Override
     public E removerPrimeiro() throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Encadeada está Vazia!");
-        E valor = cabeca.valor;
+        No noParaRemover = cabeca;
+        E valor = noParaRemover.valor;
         if(tamanho==1){            
             cauda = null;
         }        
-        cabeca = cabeca.proximo;
+        cabeca = noParaRemover.proximo;
+        desindexar(noParaRemover);
+        liberarNo(noParaRemover);
         tamanho--;
+        modificacoes++;
         
         return valor;
     }
@@ -145,7 +161,8 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
     @Override
     public E removerUltimo() throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Encadeada está Vazia!");
-        E valor = cauda.valor;
+        No noParaRemover = cauda;
+        E valor = noParaRemover.valor;
         if(tamanho==1){
             cabeca = null;
             cauda = null;
@@ -154,28 +171,82 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
             cauda = noAuxiliar;
             noAuxiliar.proximo = null;
         }
+        desindexar(noParaRemover);
+        liberarNo(noParaRemover);
         tamanho--;
+        modificacoes++;
         
         return valor;
     }
 
     /**
      * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * Com o índice hash ativo, valores ausentes são descartados em O(1) esperado e valores que ocorrem
+     * uma única vez (fora da cauda) são removidos pelo nó guardado no índice, também em O(1) esperado.
+     * Nos demais casos a ocorrência é localizada e desligada em uma única passada.
      * @param valor o elemento a ser removido desta lista, se presente
      * @return true se esta lista continha o elemento especificado
      * @throws ListaVaziaExcecao se esta lista estiver vazia
      */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean remover(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Encadeada está Vazia!");
-        int indice = indiceDe(valor);
-        if (indice != -1) {
-            removerPorIndice(indice);
-            return true;
+        if(indiceHash != null){
+            if(!indiceHash.contem(valor)) return false;
+            No unico = (No) indiceHash.referenciaUnica(valor);
+            if(unico != null && unico != cauda){
+                removerNoSemAnterior(unico);
+                return true;
+            }
+        }
+        No anterior = null;
+        for(No atual = cabeca; atual != null; anterior = atual, atual = atual.proximo){
+            if(valor == null ? atual.valor == null : valor.equals(atual.valor)){
+                if(anterior == null){
+                    removerPrimeiro();
+                }else{
+                    removerProximo(anterior);
+                }
+                return true;
+            }
         }
         return false;
     }
 
+    /**
+     * Desliga o nó seguinte ao nó especificado.
+     * @param anterior o nó que precede o nó a ser removido
+     */
+    protected void removerProximo(No anterior){
+        No noParaRemover = anterior.proximo;
+        anterior.proximo = noParaRemover.proximo;
+        if(noParaRemover == cauda) cauda = anterior;
+        desindexar(noParaRemover);
+        liberarNo(noParaRemover);
+        tamanho--;
+        modificacoes++;
+    }
+
+    /**
+     * Remove o elemento de um nó que não é a cauda sem conhecer o nó anterior, em O(1): o valor do nó seguinte
+     * é trazido para este nó, e o nó seguinte é desligado. O índice hash passa a apontar para este nó
+     * como o portador do valor trazido.
+     * @param no o nó cujo elemento deve ser removido (não pode ser a cauda)
+     */
+    protected void removerNoSemAnterior(No no){
+        No seguinte = no.proximo;
+        desindexar(no);
+        desindexar(seguinte);
+        no.valor = seguinte.valor;
+        no.proximo = seguinte.proximo;
+        if(seguinte == cauda) cauda = no;
+        indexar(no);
+        liberarNo(seguinte);
+        tamanho--;
+        modificacoes++;
+    }
+
     /**
      * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
      * @param indice o índice do elemento a ser substituído
@@ -187,12 +258,17 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
     public void definir(int indice, E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Encadeada está Vazia!");
         verificarIndice(indice);
-        obterNo(indice).valor = valor;
+        No no = obterNo(indice);
+        desindexar(no);
+        no.valor = valor;
+        indexar(no);
     }
 
     /**
      * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
      * ou -1 se esta lista não contiver o elemento.
+     * Com o índice hash ativo, valores ausentes retornam -1 em O(1) esperado; para valores presentes
+     * a posição só pode ser obtida percorrendo a lista, pois os nós não guardam o seu índice.
      * @param valor o elemento a ser pesquisado
      * @return o índice da primeira ocorrência do elemento especificado nesta lista,
      *         ou -1 se esta lista não contiver o elemento
@@ -201,6 +277,7 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
     @Override
     public int indiceDe(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Encadeada está Vazia!");
+        if(indiceHash != null && !indiceHash.contem(valor)) return -1;
         No atual = cabeca;
         for (int i = 0; i < tamanho; i++) {
             if (valor == null) {
@@ -231,46 +308,69 @@ public class ListaEncadeada<E> extends ListaDinamica<E>{
 
     /**
      * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * Os novos nós são criados em uma única passada sobre a origem e ligados à cauda de uma só vez.
      * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
      */
     @Override
     public void adicionarTodos(colecoes.Lista<E> outraLista) {
-        for (int i = 0; i < outraLista.tamanho(); i++) {
-            try {
-                adicionar(outraLista.obter(i));
-            } catch (ListaVaziaExcecao e) {
-                // Não deve acontecer se outraLista.tamanho() estiver correto
-            }
-        }
+        inserirCadeia(tamanho, copiarCadeia(outraLista, false), false);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * Os novos nós são criados em uma única passada sobre a origem e ligados à lista de uma só vez.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, colecoes.Lista<E> outraLista) {
+        inserirCadeia(indice, copiarCadeia(outraLista, false), false);
+    }
+
+    /**
+     * Move todos os elementos da lista especificada para o final desta lista, em O(1).
+     * Os nós da outra lista são religados a esta lista, sem cópia, e a outra lista fica vazia.
+     * @param outraLista a lista cujos elementos devem ser movidos para esta lista
+     * @throws IllegalArgumentException se a outra lista for esta própria lista
+     */
+    public void transferirTodos(ListaEncadeada<E> outraLista) {
+        inserirCadeia(tamanho, retirarCadeia(outraLista), false);
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado em uma única passada,
+     * desligando cada nó removido sem voltar ao início da lista, em O(n) no total.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        return removerNosSe(0, tamanho, filtro, false) > 0;
     }
 
     /**
      * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os nós existentes são religados no lugar por intercalação, sem copiar os elementos para um array.
      * @param comparador o {@code Comparator} usado para comparar elementos da lista
      */
     @Override
     public void ordenar(Comparator<E> comparador) {
-        if (estaVazia()) return;
-
-        // Copia os elementos para um array local
-        E[] array = paraArray();
-
-        // Ordena manualmente usando Bubble Sort
-        for (int i = 0; i < array.length - 1; i++) {
-            for (int j = 0; j < array.length - 1 - i; j++) {
-                if (comparador.compare(array[j], array[j + 1]) > 0) {
-                    E temp = array[j];
-                    array[j] = array[j + 1];
-                    array[j + 1] = temp;
-                }
-            }
-        }
+        ordenarNos(comparador, false);
+    }
 
-        // Limpa a lista e insere novamente os elementos ordenados
-        limpar();
-        for (E elemento : array) {
-            adicionar(elemento);
-        }
+    /**
+     * Retorna uma visão do intervalo [de, ate) desta lista, apoiada diretamente nos seus nós, sem cópia.
+     * Iteração, {@code ordenar} e {@code limpar} da sublista atuam sobre os nós do intervalo, e as alterações
+     * feitas pela sublista se refletem nesta lista. Qualquer alteração estrutural feita nesta lista por fora
+     * da sublista a invalida: a próxima operação da sublista lança {@link java.util.ConcurrentModificationException}.
+     * @param de o índice inicial da sublista (inclusivo)
+     * @param ate o índice final da sublista (exclusivo)
+     * @return uma visão do intervalo especificado
+     * @throws IndexOutOfBoundsException se o intervalo for inválido (de < 0 || ate > tamanho() || de > ate)
+     */
+    public colecoes.Lista<E> subLista(int de, int ate) {
+        verificarIntervalo(de, ate);
+        return new SubListaEncadeada<>(this, de, ate, false);
     }
 
     /**
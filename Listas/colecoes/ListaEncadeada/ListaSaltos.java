@@ -0,0 +1,472 @@
+package colecoes.ListaEncadeada;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementação de uma lista encadeada indexável por saltos (indexable skip list), que adere à interface {@link Lista}.
+ * Além da ligação comum entre nós vizinhos (nível 0), alguns nós participam de níveis superiores, que funcionam
+ * como vias expressas. Cada ligação guarda quantas posições ela salta, o que permite localizar qualquer índice
+ * descendo pelos níveis em O(log n) esperado. Assim {@code obter}, {@code definir}, {@code inserir(indice)} e
+ * {@code removerPorIndice} custam O(log n) esperado, e a adição ao final continua O(1), pois o último nó de cada
+ * nível é mantido à parte.
+ * <p>
+ * As posições são tratadas internamente como ordens de 1 a n; a cabeça é um nó sentinela na ordem 0.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaSaltos<E> implements Lista<E> {
+
+    private static final int NIVEL_MAXIMO = 32;
+
+    /**
+     * Classe interna que representa um nó da lista, com uma ligação e um salto para cada nível de que participa.
+     */
+    protected class No {
+        E valor;
+        final No[] proximos;
+        final int[] saltos; // saltos[i]: quantas posições se avança seguindo proximos[i]
+
+        @SuppressWarnings("unchecked")
+        No(E valor, int nivel) {
+            this.valor = valor;
+            this.proximos = (No[]) java.lang.reflect.Array.newInstance(No.class, nivel);
+            this.saltos = new int[nivel];
+        }
+    }
+
+    protected final No cabeca = new No(null, NIVEL_MAXIMO);
+    protected int nivel = 1;
+    protected int tamanho;
+
+    // Último nó de cada nível e sua ordem, para adicionar ao final sem busca
+    @SuppressWarnings("unchecked")
+    private final No[] ultimos = (No[]) java.lang.reflect.Array.newInstance(No.class, NIVEL_MAXIMO);
+    private final int[] ordensUltimos = new int[NIVEL_MAXIMO];
+
+    // Resultado da última busca: o predecessor em cada nível e sua ordem
+    @SuppressWarnings("unchecked")
+    private final No[] predecessores = (No[]) java.lang.reflect.Array.newInstance(No.class, NIVEL_MAXIMO);
+    private final int[] ordensPredecessores = new int[NIVEL_MAXIMO];
+
+    /**
+     * Constrói uma nova ListaSaltos vazia.
+     */
+    public ListaSaltos() {
+        Arrays.fill(ultimos, cabeca);
+    }
+
+    /**
+     * Sorteia o nível de um novo nó: cada nível adicional tem probabilidade 1/4.
+     * @return um nível entre 1 e NIVEL_MAXIMO
+     */
+    private int sortearNivel() {
+        int novoNivel = 1;
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        while (novoNivel < NIVEL_MAXIMO && aleatorio.nextInt(4) == 0) {
+            novoNivel++;
+        }
+        return novoNivel;
+    }
+
+    /**
+     * Desce pelos níveis procurando, em cada um, o último nó com ordem menor que a ordem especificada.
+     * O resultado fica em predecessores e ordensPredecessores.
+     * @param ordem a ordem procurada (de 1 a tamanho + 1)
+     * @return o predecessor no nível 0
+     */
+    private No buscarPredecessores(int ordem) {
+        No atual = cabeca;
+        int ordemAtual = 0;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && ordemAtual + atual.saltos[i] < ordem) {
+                ordemAtual += atual.saltos[i];
+                atual = atual.proximos[i];
+            }
+            predecessores[i] = atual;
+            ordensPredecessores[i] = ordemAtual;
+        }
+        return atual;
+    }
+
+    /**
+     * Retorna o nó na posição especificada, em O(log n) esperado.
+     * @param indice um índice válido da lista
+     * @return o nó na posição especificada
+     */
+    protected No obterNo(int indice) {
+        No atual = cabeca;
+        int ordemAtual = 0;
+        int ordem = indice + 1;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && ordemAtual + atual.saltos[i] <= ordem) {
+                ordemAtual += atual.saltos[i];
+                atual = atual.proximos[i];
+            }
+            if (ordemAtual == ordem) return atual;
+        }
+        return atual;
+    }
+
+    /**
+     * Liga um novo nó na ordem especificada, dados os predecessores já calculados em cada nível.
+     */
+    private void ligar(E valor, int ordem) {
+        int nivelNovo = sortearNivel();
+        if (nivelNovo > nivel) {
+            for (int i = nivel; i < nivelNovo; i++) {
+                predecessores[i] = cabeca;
+                ordensPredecessores[i] = 0;
+            }
+            nivel = nivelNovo;
+        }
+        No novo = new No(valor, nivelNovo);
+        for (int i = 0; i < nivelNovo; i++) {
+            No anterior = predecessores[i];
+            novo.proximos[i] = anterior.proximos[i];
+            if (novo.proximos[i] != null) {
+                novo.saltos[i] = anterior.saltos[i] + ordensPredecessores[i] + 1 - ordem;
+            }
+            anterior.proximos[i] = novo;
+            anterior.saltos[i] = ordem - ordensPredecessores[i];
+        }
+        for (int i = nivelNovo; i < nivel; i++) {
+            if (predecessores[i].proximos[i] != null) predecessores[i].saltos[i]++;
+        }
+        for (int i = 0; i < NIVEL_MAXIMO; i++) {
+            if (i < nivelNovo && novo.proximos[i] == null) {
+                ultimos[i] = novo;
+                ordensUltimos[i] = ordem;
+            } else if (ultimos[i] != cabeca && ordensUltimos[i] >= ordem) {
+                ordensUltimos[i]++;
+            }
+        }
+        tamanho++;
+    }
+
+    /**
+     * Desliga o nó na ordem especificada e retorna seu valor.
+     */
+    private E desligar(int ordem) {
+        No removido = buscarPredecessores(ordem).proximos[0];
+        for (int i = 0; i < nivel; i++) {
+            No anterior = predecessores[i];
+            if (anterior.proximos[i] == removido) {
+                anterior.proximos[i] = removido.proximos[i];
+                anterior.saltos[i] += removido.saltos[i] - 1;
+            } else if (anterior.proximos[i] != null) {
+                anterior.saltos[i]--;
+            }
+        }
+        for (int i = 0; i < NIVEL_MAXIMO; i++) {
+            if (ultimos[i] == removido) {
+                ultimos[i] = predecessores[i];
+                ordensUltimos[i] = ordensPredecessores[i];
+            } else if (ultimos[i] != cabeca && ordensUltimos[i] > ordem) {
+                ordensUltimos[i]--;
+            }
+        }
+        while (nivel > 1 && cabeca.proximos[nivel - 1] == null) {
+            nivel--;
+        }
+        tamanho--;
+        E valor = removido.valor;
+        removido.valor = null; // Ajuda na coleta de lixo
+        return valor;
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + tamanho);
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista, em O(1) esperado:
+     * os predecessores do novo nó são os últimos nós de cada nível, que já são conhecidos.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        System.arraycopy(ultimos, 0, predecessores, 0, nivel);
+        System.arraycopy(ordensUltimos, 0, ordensPredecessores, 0, nivel);
+        ligar(valor, tamanho + 1);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista, em O(log n) esperado.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        if (indice >= tamanho) {
+            adicionar(valor);
+            return;
+        }
+        if (indice < 0) indice = 0;
+        buscarPredecessores(indice + 1);
+        ligar(valor, indice + 1);
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Saltos está Vazia!");
+        return desligar(tamanho);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Saltos está Vazia!");
+        return desligar(1);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista, em O(log n) esperado.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Saltos está Vazia!");
+        verificarIndice(indice);
+        return desligar(indice + 1);
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            desligar(indice + 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista, em O(log n) esperado.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Saltos está Vazia!");
+        verificarIndice(indice);
+        return obterNo(indice).valor;
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado, em O(log n) esperado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Saltos está Vazia!");
+        verificarIndice(indice);
+        obterNo(indice).valor = valor;
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Saltos está Vazia!");
+        No atual = cabeca.proximos[0];
+        for (int i = 0; i < tamanho; i++) {
+            if (valor == null ? atual.valor == null : valor.equals(atual.valor)) return i;
+            atual = atual.proximos[0];
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Remove todos os elementos desta lista.
+     * A lista ficará vazia após esta chamada retornar.
+     */
+    @Override
+    public void limpar() {
+        Arrays.fill(cabeca.proximos, null);
+        Arrays.fill(cabeca.saltos, 0);
+        Arrays.fill(ultimos, cabeca);
+        Arrays.fill(ordensUltimos, 0);
+        nivel = 1;
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        E[] array = (E[]) new Object[tamanho];
+        No atual = cabeca.proximos[0];
+        for (int i = 0; i < tamanho; i++) {
+            array[i] = atual.valor;
+            atual = atual.proximos[0];
+        }
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista, cada um em O(1) esperado.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        for (E valor : outraLista.paraArray()) {
+            adicionar(valor);
+        }
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista,
+     * cada um em O(log n) esperado.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        if (indice < 0) indice = 0;
+        for (E valor : outraLista.paraArray()) {
+            inserir(indice++, valor);
+        }
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os valores são ordenados em um array temporário e regravados nos mesmos nós, preservando os níveis.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        E[] array = paraArray();
+        OrdenacaoAdaptativa.ordenar(array, 0, array.length, comparador);
+        No atual = cabeca.proximos[0];
+        for (E valor : array) {
+            atual.valor = valor;
+            atual = atual.proximos[0];
+        }
+    }
+
+    /**
+     * Retorna um iterador que percorre o nível 0 desta lista.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private No atual = cabeca.proximos[0];
+
+            @Override
+            public boolean hasNext() {
+                return atual != null;
+            }
+
+            @Override
+            public E next() {
+                if (atual == null) throw new NoSuchElementException("Não há mais elementos na lista.");
+                E valor = atual.valor;
+                atual = atual.proximos[0];
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+        No noAuxiliar = cabeca.proximos[0];
+        while (noAuxiliar != null) {
+            dadosLista.append(noAuxiliar.valor);
+            if (noAuxiliar.proximos[0] != null) {
+                dadosLista.append(" -> ");
+            }
+            noAuxiliar = noAuxiliar.proximos[0];
+        }
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -0,0 +1,357 @@
+package colecoes.ListaEncadeada;
+
+import colecoes.Lista;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Visão de um intervalo [de, ate) de uma lista encadeada, criada por {@code subLista(de, ate)}.
+ * Não copia elementos: leituras e iteração percorrem diretamente os nós da lista original, e as alterações são
+ * feitas na lista original, nas posições correspondentes. {@code ordenar} religa apenas os nós do intervalo e
+ * {@code limpar} os desliga de uma só vez. A sublista guarda o contador de modificações da lista original e lança
+ * {@link ConcurrentModificationException} se ela tiver sido alterada estruturalmente por fora.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+class SubListaEncadeada<E> implements Lista<E> {
+
+    private final ListaDinamica<E> lista;
+    private final boolean ligarAnterior;
+    private final int de;
+    private int ate;
+    private int modificacoes;
+
+    SubListaEncadeada(ListaDinamica<E> lista, int de, int ate, boolean ligarAnterior) {
+        this.lista = lista;
+        this.de = de;
+        this.ate = ate;
+        this.ligarAnterior = ligarAnterior;
+        this.modificacoes = lista.modificacoes;
+    }
+
+    /**
+     * Verifica se a lista original não foi alterada estruturalmente por fora desta sublista.
+     * @throws ConcurrentModificationException se a lista original tiver sido alterada
+     */
+    private void verificarModificacoes() {
+        if (lista.modificacoes != modificacoes) {
+            throw new ConcurrentModificationException("A lista foi modificada fora desta sublista.");
+        }
+    }
+
+    /**
+     * Atualiza o fim e o contador de modificações depois de uma alteração feita através desta sublista.
+     */
+    private void sincronizar(int tamanhoAnterior) {
+        ate += lista.tamanho - tamanhoAnterior;
+        modificacoes = lista.modificacoes;
+    }
+
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= ate - de) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (ate - de - 1) + "]");
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta sublista, logo após o seu último elemento na lista original.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        inserir(tamanho(), valor);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta sublista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta sublista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        int tamanho = tamanho();
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        int tamanhoAnterior = lista.tamanho;
+        lista.inserir(de + indice, valor);
+        sincronizar(tamanhoAnterior);
+    }
+
+    /**
+     * Remove e retorna o último elemento desta sublista.
+     * @return o último elemento desta sublista
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        return removerPorIndice(ate - de - 1);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta sublista.
+     * @return o primeiro elemento desta sublista
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta sublista.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        verificarIndice(indice);
+        int tamanhoAnterior = lista.tamanho;
+        E valor = lista.removerPorIndice(de + indice);
+        sincronizar(tamanhoAnterior);
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta sublista, se estiver presente.
+     * @param valor o elemento a ser removido desta sublista, se presente
+     * @return true se esta sublista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta sublista.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        verificarIndice(indice);
+        return lista.obterNo(de + indice).valor;
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta sublista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        verificarIndice(indice);
+        lista.definir(de + indice, valor);
+    }
+
+    /**
+     * Retorna true se esta sublista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta sublista deve ser testada
+     * @return true se esta sublista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta sublista,
+     * ou -1 se esta sublista não contiver o elemento. Os nós do intervalo são percorridos uma única vez.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta sublista,
+     *         ou -1 se esta sublista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        ListaDinamica<E>.No atual = lista.obterNo(de);
+        for (int i = 0; i < ate - de; i++) {
+            if (valor == null ? atual.valor == null : valor.equals(atual.valor)) return i;
+            atual = atual.proximo;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta sublista.
+     * @return o número de elementos nesta sublista
+     * @throws ConcurrentModificationException se a lista original tiver sido alterada por fora desta sublista
+     */
+    @Override
+    public int tamanho() {
+        verificarModificacoes();
+        return ate - de;
+    }
+
+    /**
+     * Remove da lista original todos os nós desta sublista, religando os seus vizinhos de uma só vez.
+     */
+    @Override
+    public void limpar() {
+        verificarModificacoes();
+        int tamanhoAnterior = lista.tamanho;
+        lista.removerIntervalo(de, ate, ligarAnterior);
+        sincronizar(tamanhoAnterior);
+    }
+
+    /**
+     * Retorna true se esta sublista não contiver elementos.
+     * @return true se esta sublista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho() == 0;
+    }
+
+    /**
+     * Retorna um novo array contendo todos os elementos desta sublista na sequência correta.
+     * @return um array contendo todos os elementos desta sublista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        E[] array = (E[]) new Object[tamanho()];
+        if (array.length == 0) return array;
+        ListaDinamica<E>.No atual = lista.obterNo(de);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = atual.valor;
+            atual = atual.proximo;
+        }
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta sublista.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta sublista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        inserirTodos(tamanho(), outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta sublista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta sublista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        int tamanho = tamanho();
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        int tamanhoAnterior = lista.tamanho;
+        lista.inserirTodos(de + indice, outraLista);
+        sincronizar(tamanhoAnterior);
+    }
+
+    /**
+     * Remove desta sublista os elementos que satisfazem o predicado especificado, desligando os nós do intervalo
+     * em uma única passada.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        verificarModificacoes();
+        int tamanhoAnterior = lista.tamanho;
+        try {
+            return lista.removerNosSe(de, ate, filtro, ligarAnterior) > 0;
+        } finally {
+            sincronizar(tamanhoAnterior);
+        }
+    }
+
+    /**
+     * Ordena apenas os nós desta sublista, religando-os entre os seus vizinhos na lista original.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        verificarModificacoes();
+        lista.ordenarIntervalo(de, ate, comparador, ligarAnterior);
+        modificacoes = lista.modificacoes;
+    }
+
+    /**
+     * Retorna um iterador que percorre diretamente os nós do intervalo na lista original, em O(n) no total.
+     * O iterador falha rapidamente se a lista original for alterada estruturalmente.
+     * @return um iterador sobre os elementos desta sublista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        int quantidade = tamanho();
+        return new Iterator<E>() {
+            private ListaDinamica<E>.No atual = quantidade == 0 ? null : lista.obterNo(de);
+            private int restantes = quantidade;
+
+            @Override
+            public boolean hasNext() {
+                return restantes > 0;
+            }
+
+            @Override
+            public E next() {
+                verificarModificacoes();
+                if (restantes <= 0) throw new NoSuchElementException("Não há mais elementos na lista.");
+                E valor = atual.valor;
+                atual = atual.proximo;
+                restantes--;
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna uma representação em string desta sublista.
+     * @return uma representação em string desta sublista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+        int tamanho = tamanho();
+        ListaDinamica<E>.No atual = tamanho == 0 ? null : lista.obterNo(de);
+
+        for (int i = 0; i < tamanho; i++) {
+            dadosLista.append(atual.valor);
+            atual = atual.proximo;
+
+            if (i < tamanho - 1) {
+                dadosLista.append(", ");
+            }
+        }
+
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -1,31 +1,90 @@
 package colecoes.ListaEstatica;
 
+import excecoes.ListaCheiaExcecao;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
 /**
  * Implementação de uma lista dinâmica (baseada em array) que estende {@link ListaEstatica}.
  * Esta lista automaticamente redimensiona seu array subjacente quando atinge a capacidade máxima,
- * permitindo que a lista cresça conforme a necessidade.
+ * permitindo que a lista cresça conforme a necessidade. A forma de crescer, o limite de capacidade e o
+ * encolhimento automático são definidos por uma {@link PoliticaCrescimento}.
  * @param <E> o tipo de elementos que esta lista irá conter
  */
 public class ListaDinamica<E> extends ListaEstatica<E> {
 
+    protected final PoliticaCrescimento politica;
+
     /**
-     * Constrói uma nova ListaDinamica com o tamanho máximo inicial especificado.
+     * Constrói uma nova ListaDinamica com o tamanho máximo inicial especificado e a política de crescimento padrão
+     * (dobra a capacidade e nunca encolhe automaticamente).
      * @param tamanhoMaximo o tamanho máximo inicial da lista
      */
     public ListaDinamica(int tamanhoMaximo){
+        this(tamanhoMaximo, PoliticaCrescimento.PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaDinamica com o tamanho máximo inicial e a política de crescimento especificados.
+     * O tamanho máximo inicial também é a capacidade mínima abaixo da qual o array nunca encolhe.
+     * @param tamanhoMaximo o tamanho máximo inicial da lista
+     * @param politica a política que define como o array subjacente cresce e encolhe
+     * @throws IllegalArgumentException se o tamanho inicial for inválido ou exceder a capacidade máxima da política
+     */
+    public ListaDinamica(int tamanhoMaximo, PoliticaCrescimento politica){
         super(tamanhoMaximo);
+        if (tamanhoMaximo > politica.capacidadeMaxima()) {
+            throw new IllegalArgumentException("O tamanho inicial excede a capacidade máxima da política.");
+        }
+        this.politica = politica;
+    }
+
+    /**
+     * Recria o array subjacente com a capacidade especificada, copiando os elementos existentes em bloco.
+     * @param novaCapacidade a capacidade do novo array
+     */
+    private void recriarArray(int novaCapacidade){
+        elementos = Arrays.copyOf(elementos, novaCapacidade);
     }
 
     /**
-     * Recria o array subjacente com o dobro do tamanho atual, copiando os elementos existentes.
+     * Garante que o array subjacente comporte pelo menos a quantidade de elementos especificada,
+     * crescendo de acordo com a política. Útil para reservar espaço antes de muitas adições.
+     * @param capacidadeMinima a capacidade mínima desejada
+     * @throws ListaCheiaExcecao se a capacidade desejada exceder a capacidade máxima da política
      */
-    @SuppressWarnings("unchecked")
-    private void recriarArray(){
-        E[] novaLista = (E[]) new Object[elementos.length*2];
-        for(int i = 0; i < tamanho; i++){
-            novaLista[i] = elementos[i];
+    public void garantirCapacidade(int capacidadeMinima) throws ListaCheiaExcecao {
+        if (capacidadeMinima > elementos.length) {
+            recriarArray(politica.proximaCapacidade(elementos.length, capacidadeMinima));
+        }
+    }
+
+    /**
+     * Reduz o array subjacente ao número exato de elementos da lista, liberando o espaço excedente.
+     */
+    public void ajustarAoTamanho(){
+        if (tamanho < elementos.length) {
+            recriarArray(tamanho);
+        }
+    }
+
+    /**
+     * Retorna o número de elementos que o array subjacente comporta sem ser redimensionado.
+     * @return a capacidade atual da lista
+     */
+    public int capacidade(){
+        return elementos.length;
+    }
+
+    /**
+     * Encolhe o array subjacente se a ocupação tiver caído abaixo da fração definida pela política.
+     */
+    protected void encolherSeNecessario(){
+        if (politica.deveEncolher(tamanho, elementos.length, TAMANHO_MAXIMO)) {
+            recriarArray(politica.capacidadeAposEncolher(tamanho, TAMANHO_MAXIMO));
         }
-        elementos = novaLista;
     }
 
     /**
@@ -35,7 +94,7 @@ public class ListaDinamica<E> extends ListaEstatica<E> {
      */
     @Override
     public void adicionar(E valor) {
-        if(tamanho == elementos.length) recriarArray(); // Verifica a capacidade atual do array
+        if(tamanho == elementos.length) garantirCapacidade(tamanho + 1); // Verifica a capacidade atual do array
         super.adicionar(valor);
     }
 
@@ -46,7 +105,7 @@ public class ListaDinamica<E> extends ListaEstatica<E> {
      */
     @Override
     public void inserir(E valor) {
-        if(tamanho == elementos.length) recriarArray();
+        if(tamanho == elementos.length) garantirCapacidade(tamanho + 1);
         super.inserir(valor);
     }
 
@@ -58,10 +117,97 @@ public class ListaDinamica<E> extends ListaEstatica<E> {
      */
     @Override
     public void inserir(int indice, E valor) {
-        if(tamanho == elementos.length) recriarArray();
+        if(tamanho == elementos.length) garantirCapacidade(tamanho + 1);
         super.inserir(indice, valor);
     }
 
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * A capacidade é ajustada uma única vez, antes da cópia em bloco.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(colecoes.Lista<E> outraLista) {
+        garantirCapacidade(tamanho + outraLista.tamanho());
+        super.adicionarTodos(outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * A capacidade é ajustada uma única vez, antes do deslocamento e da cópia em bloco.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, colecoes.Lista<E> outraLista) {
+        garantirCapacidade(tamanho + outraLista.tamanho());
+        super.inserirTodos(indice, outraLista);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista,
+     * encolhendo o array subjacente se a política assim determinar.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        E valor = super.removerPorIndice(indice);
+        encolherSeNecessario();
+        return valor;
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista,
+     * encolhendo o array subjacente se a política assim determinar.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        E valor = super.removerUltimo();
+        encolherSeNecessario();
+        return valor;
+    }
+
+    /**
+     * Compacta o intervalo especificado e encolhe o array subjacente ao final, se a política assim determinar.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return o número de elementos removidos
+     */
+    @Override
+    protected int removerSeNoIntervalo(int de, int ate, Predicate<? super E> filtro) {
+        int removidos = super.removerSeNoIntervalo(de, ate, filtro);
+        if (removidos > 0) encolherSeNecessario();
+        return removidos;
+    }
+
+    /**
+     * Remove os elementos do intervalo especificado e encolhe o array subjacente, se a política assim determinar.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     */
+    @Override
+    protected void removerIntervalo(int de, int ate) {
+        super.removerIntervalo(de, ate);
+        encolherSeNecessario();
+    }
+
+    /**
+     * Remove todos os elementos desta lista, liberando as referências armazenadas.
+     * Se a política permitir encolhimento, o array volta à capacidade inicial.
+     */
+    @Override
+    public void limpar() {
+        Arrays.fill(elementos, 0, tamanho, null);
+        super.limpar();
+        encolherSeNecessario();
+    }
+
     /**
      * Retorna true se esta lista estiver cheia.
      * Para ListaDinamica, a lista está cheia quando o número de elementos
@@ -73,4 +219,4 @@ public class ListaDinamica<E> extends ListaEstatica<E> {
         return tamanho == elementos.length; // A lista está cheia quando o tamanho atinge o comprimento do array
     }
 
-}
\ No newline at end of file
+}
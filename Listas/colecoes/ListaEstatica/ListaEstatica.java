@@ -1,14 +1,30 @@
 package colecoes.ListaEstatica;
 
+import colecoes.IndiceHash;
 import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import colecoes.OrdenacaoRadix;
 import excecoes.ListaVaziaExcecao;
 import excecoes.ListaCheiaExcecao;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Implementação de uma lista estática (baseada em array) que adere à interface {@link Lista}.
  * Esta lista tem um tamanho máximo fixo e lança uma exceção se for tentado adicionar elementos quando cheia.
+ * <p>
+ * Opcionalmente, a lista mantém um índice hash com o número de ocorrências de cada valor
+ * (veja {@link #ativarIndiceHash()}), que torna {@code contem} O(1) esperado e faz {@code indiceDe}
+ * e {@code remover} desistirem imediatamente de valores ausentes.
  * @param <E> o tipo de elementos que esta lista irá conter
  */
 public class ListaEstatica<E> implements Lista<E> {
@@ -16,6 +32,8 @@ public class ListaEstatica<E> implements Lista<E> {
     protected E[] elementos;
     protected int tamanho;
     protected final int TAMANHO_MAXIMO;
+    protected IndiceHash<E> indiceHash; // null enquanto o índice hash estiver desativado
+    protected int modificacoes; // Alterações estruturais, para que as sublistas detectem modificações externas
 
     /**
      * Constrói uma nova ListaEstatica com um tamanho máximo padrão de 24.
@@ -50,6 +68,43 @@ public class ListaEstatica<E> implements Lista<E> {
         if(estaCheia()) throw new ListaCheiaExcecao("Lista Estática está Cheia!");
         elementos[tamanho] = valor;
         tamanho++;
+        modificacoes++;
+        if (indiceHash != null) indiceHash.adicionar(valor);
+    }
+
+    /**
+     * Ativa o índice hash desta lista, construindo-o a partir dos elementos atuais em O(n).
+     * A partir daí todas as modificações da lista também atualizam o índice.
+     */
+    public void ativarIndiceHash() {
+        if (indiceHash != null) return;
+        indiceHash = new IndiceHash<>();
+        for (int i = 0; i < tamanho; i++) {
+            indiceHash.adicionar(elementos[i]);
+        }
+    }
+
+    /**
+     * Desativa o índice hash desta lista, liberando a memória ocupada por ele.
+     */
+    public void desativarIndiceHash() {
+        indiceHash = null;
+    }
+
+    /**
+     * Retorna o número de valores distintos no índice hash, ao qual a memória extra é proporcional.
+     * @return o número de entradas do índice, ou 0 se ele estiver desativado
+     */
+    public int entradasIndiceHash() {
+        return indiceHash == null ? 0 : indiceHash.entradas();
+    }
+
+    /**
+     * Retorna quantas atualizações o índice hash recebeu desde que foi ativado.
+     * @return o número de atualizações do índice, ou 0 se ele estiver desativado
+     */
+    public long atualizacoesIndiceHash() {
+        return indiceHash == null ? 0 : indiceHash.atualizacoes();
     }
     
     /**
@@ -60,6 +115,8 @@ public class ListaEstatica<E> implements Lista<E> {
     public void limpar() {
         // Não é necessário anular elementos em Java para coleta de lixo, apenas redefinir o tamanho
         tamanho = 0;        
+        modificacoes++;
+        if (indiceHash != null) indiceHash.limpar();
     }
     
     /**
@@ -71,6 +128,7 @@ public class ListaEstatica<E> implements Lista<E> {
     @Override
     public boolean contem(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Estática está Vazia!");
+        if (indiceHash != null) return indiceHash.contem(valor);
         for(int i = 0; i < tamanho; i++){
             if (valor == null) {
                 if (elementos[i] == null) return true;
@@ -109,6 +167,8 @@ public class ListaEstatica<E> implements Lista<E> {
         }
         elementos[0] = valor;
         tamanho++;
+        modificacoes++;
+        if (indiceHash != null) indiceHash.adicionar(valor);
     }
     
     /**
@@ -133,6 +193,8 @@ public class ListaEstatica<E> implements Lista<E> {
             }
             elementos[indice] = valor;
             tamanho++;
+            modificacoes++;
+            if (indiceHash != null) indiceHash.adicionar(valor);
         }
     }
 
@@ -176,10 +238,12 @@ public class ListaEstatica<E> implements Lista<E> {
         verificarIndice(indice);
         E valor = elementos[indice];
         tamanho--;
+        modificacoes++;
         for(int i = indice; i < tamanho; i++) {
             elementos[i] = elementos[i+1];
         }
         elementos[tamanho] = null; // Limpa o último elemento para coleta de lixo
+        if (indiceHash != null) indiceHash.remover(valor);
         return valor;        
     }
     
@@ -203,7 +267,9 @@ public class ListaEstatica<E> implements Lista<E> {
     public E removerUltimo() throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Estática está Vazia!");
         E valor = elementos[--tamanho];
+        modificacoes++;
         elementos[tamanho] = null; // Limpa o elemento para coleta de lixo
+        if (indiceHash != null) indiceHash.remover(valor);
         return valor;
     }
 
@@ -223,7 +289,100 @@ public class ListaEstatica<E> implements Lista<E> {
         }
         return false;
     }
-    
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado em uma única passada, compactando o array
+     * com dois ponteiros: cada elemento mantido é copiado uma única vez para a próxima posição livre, em O(n)
+     * no total, em vez de deslocar a cauda a cada remoção. Se o predicado lançar uma exceção, os elementos
+     * ainda não examinados são mantidos e a lista continua consistente.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        return removerSeNoIntervalo(0, tamanho, filtro) > 0;
+    }
+
+    /**
+     * Compacta o intervalo [de, ate), removendo os elementos que satisfazem o predicado, e desloca o restante da
+     * lista uma única vez para ocupar as posições liberadas.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return o número de elementos removidos
+     */
+    protected int removerSeNoIntervalo(int de, int ate, Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        int tamanhoOriginal = tamanho;
+        int leitura = de;
+        int escrita = de;
+        try {
+            for (; leitura < ate; leitura++) {
+                E valor = elementos[leitura];
+                if (filtro.test(valor)) {
+                    if (indiceHash != null) indiceHash.remover(valor);
+                } else {
+                    elementos[escrita++] = valor;
+                }
+            }
+        } finally {
+            // Os elementos não examinados (se o predicado falhou) e os posteriores ao intervalo são deslocados juntos
+            int restantes = tamanhoOriginal - leitura;
+            System.arraycopy(elementos, leitura, elementos, escrita, restantes);
+            escrita += restantes;
+            Arrays.fill(elementos, escrita, tamanhoOriginal, null);
+            if (escrita != tamanhoOriginal) modificacoes++;
+            tamanho = escrita;
+        }
+        return tamanhoOriginal - tamanho;
+    }
+
+    /**
+     * Remove os elementos do intervalo [de, ate) com um único deslocamento em bloco do restante da lista.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     */
+    protected void removerIntervalo(int de, int ate) {
+        if (de >= ate) return;
+        if (indiceHash != null) {
+            for (int i = de; i < ate; i++) indiceHash.remover(elementos[i]);
+        }
+        System.arraycopy(elementos, ate, elementos, de, tamanho - ate);
+        int novoTamanho = tamanho - (ate - de);
+        Arrays.fill(elementos, novoTamanho, tamanho, null);
+        tamanho = novoTamanho;
+        modificacoes++;
+    }
+
+    /**
+     * Ordena apenas o intervalo [de, ate) desta lista, no próprio array.
+     * @param de o início do intervalo (inclusivo)
+     * @param ate o fim do intervalo (exclusivo)
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    protected void ordenarIntervalo(int de, int ate, Comparator<E> comparador) {
+        OrdenacaoAdaptativa.ordenar(elementos, de, ate, comparador);
+        modificacoes++;
+    }
+
+    /**
+     * Retorna uma visão do intervalo [de, ate) desta lista, apoiada diretamente no array subjacente, sem cópia.
+     * Leituras, iteração, {@code ordenar} e {@code limpar} da sublista atuam sobre as posições correspondentes
+     * desta lista, e as alterações feitas pela sublista se refletem nela. Qualquer alteração estrutural feita
+     * nesta lista por fora da sublista a invalida: a próxima operação da sublista lança
+     * {@link java.util.ConcurrentModificationException}.
+     * @param de o índice inicial da sublista (inclusivo)
+     * @param ate o índice final da sublista (exclusivo)
+     * @return uma visão do intervalo especificado
+     * @throws IndexOutOfBoundsException se o intervalo for inválido (de < 0 || ate > tamanho() || de > ate)
+     */
+    public Lista<E> subLista(int de, int ate) {
+        if (de < 0 || ate > tamanho || de > ate) {
+            throw new IndexOutOfBoundsException("Intervalo inválido [" + de + ", " + ate + ") para o tamanho " + tamanho);
+        }
+        return new SubListaEstatica<>(this, de, ate);
+    }
+
     /**
      * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
      * @param indice o índice do elemento a ser substituído
@@ -235,6 +394,10 @@ public class ListaEstatica<E> implements Lista<E> {
     public void definir(int indice, E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Estática está Vazia!");
         verificarIndice(indice);
+        if (indiceHash != null) {
+            indiceHash.remover(elementos[indice]);
+            indiceHash.adicionar(valor);
+        }
         elementos[indice] = valor;
         
     }
@@ -259,6 +422,7 @@ public class ListaEstatica<E> implements Lista<E> {
     @Override
     public int indiceDe(E valor) throws ListaVaziaExcecao {
         if(estaVazia()) throw new ListaVaziaExcecao("Lista Estática está Vazia!");
+        if (indiceHash != null && !indiceHash.contem(valor)) return -1;
         for (int i = 0; i < tamanho; i++) {
             if (valor == null) {
                 if (elementos[i] == null) return i;
@@ -295,35 +459,145 @@ public class ListaEstatica<E> implements Lista<E> {
 
     /**
      * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * Os elementos são copiados em bloco: diretamente do array da outra lista, se ela também for baseada
+     * em array, ou de um único {@code paraArray()} nos demais casos. Se a lista estática não comportar
+     * todos os elementos, apenas os que couberem são adicionados.
      * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
      */
     @Override
     public void adicionarTodos(colecoes.Lista<E> outraLista) {
-        for (int i = 0; i < outraLista.tamanho(); i++) {
-            try {
-                adicionar(outraLista.obter(i));
-            } catch (ListaCheiaExcecao | ListaVaziaExcecao e) {
-                // Lidar ou relançar se necessário, por enquanto, parar de adicionar se estiver cheia
-                break;
-            }
+        int quantidade = Math.min(outraLista.tamanho(), elementos.length - tamanho);
+        if (quantidade <= 0) return;
+        System.arraycopy(origemDaCopia(outraLista), 0, elementos, tamanho, quantidade);
+        indexar(tamanho, tamanho + quantidade);
+        tamanho += quantidade;
+        modificacoes++;
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * A cauda é deslocada uma única vez e os novos elementos são copiados em bloco.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     * @throws ListaCheiaExcecao se a lista não comportar todos os novos elementos
+     */
+    @Override
+    public void inserirTodos(int indice, colecoes.Lista<E> outraLista) throws ListaCheiaExcecao {
+        int quantidade = outraLista.tamanho();
+        if (quantidade > elementos.length - tamanho) throw new ListaCheiaExcecao("Lista Estática não comporta os novos elementos!");
+        if (quantidade == 0) return;
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        Object[] origem = origemDaCopia(outraLista); // Obtida antes do deslocamento, caso a origem seja esta lista
+        System.arraycopy(elementos, indice, elementos, indice + quantidade, tamanho - indice);
+        System.arraycopy(origem, 0, elementos, indice, quantidade);
+        indexar(indice, indice + quantidade);
+        tamanho += quantidade;
+        modificacoes++;
+    }
+
+    /**
+     * Registra no índice hash, se ativo, os elementos de um trecho do array recém-preenchido.
+     * @param inicio a primeira posição do trecho (inclusiva)
+     * @param fim a última posição do trecho (exclusiva)
+     */
+    protected void indexar(int inicio, int fim) {
+        if (indiceHash == null) return;
+        for (int i = inicio; i < fim; i++) {
+            indiceHash.adicionar(elementos[i]);
         }
     }
 
+    /**
+     * Retorna um array com os elementos da lista especificada a partir da posição 0, pronto para uma cópia em bloco.
+     * Listas baseadas em array fornecem o próprio array subjacente, sem cópia; as demais (inclusive esta
+     * própria lista) são convertidas com uma única chamada a {@code paraArray()}.
+     * @param outraLista a lista de origem
+     * @return um array cujas primeiras posições contêm os elementos da lista de origem
+     */
+    protected Object[] origemDaCopia(colecoes.Lista<E> outraLista) {
+        if (outraLista instanceof ListaEstatica && outraLista != this) {
+            return ((ListaEstatica<E>) outraLista).elementos;
+        }
+        return outraLista.paraArray();
+    }
+
     /**
      * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Utiliza a intercalação adaptativa de {@link OrdenacaoAdaptativa}, que é estável e
+     * aproveita trechos já ordenados: listas quase ordenadas são reordenadas em tempo próximo de O(n).
      * @param comparador o {@code Comparator} usado para comparar elementos da lista
      */
     @Override
     public void ordenar(Comparator<E> comparador) {
-        for (int i = 0; i < tamanho - 1; i++) {
-            for (int j = 0; j < tamanho - 1 - i; j++) {
-                if (comparador.compare(elementos[j], elementos[j + 1]) > 0) {
-                    E temp = elementos[j];
-                    elementos[j] = elementos[j + 1];
-                    elementos[j + 1] = temp;
-                }
+        OrdenacaoAdaptativa.ordenar(elementos, 0, tamanho, comparador);
+        modificacoes++;
+    }
+
+    /**
+     * Ordena esta lista em paralelo, dividindo os elementos entre as threads do {@code ForkJoinPool} comum.
+     * O resultado é o mesmo de {@link #ordenar(Comparator)}, inclusive quanto à estabilidade. Listas com até
+     * {@link OrdenacaoAdaptativa#LIMIAR_PARALELO} elementos são ordenadas sequencialmente.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    public void ordenarParalelo(Comparator<E> comparador) {
+        OrdenacaoAdaptativa.ordenarParalelo(elementos, 0, tamanho, comparador);
+        modificacoes++;
+    }
+
+    /**
+     * Ordena esta lista em ordem crescente da chave {@code int} extraída de cada elemento, com a ordenação
+     * radix de {@link OrdenacaoRadix}: sem comparações, em O(n), e estável. A função de chave é chamada
+     * uma única vez por elemento.
+     * @param chave a função que extrai a chave de ordenação de cada elemento
+     */
+    public void ordenarPorChave(ToIntFunction<? super E> chave) {
+        OrdenacaoRadix.ordenarPorChave(elementos, 0, tamanho, chave);
+        modificacoes++;
+    }
+
+    /**
+     * Ordena esta lista em ordem crescente da chave {@code long} extraída de cada elemento, com a ordenação
+     * radix de {@link OrdenacaoRadix}: sem comparações, em O(n), e estável. A função de chave é chamada
+     * uma única vez por elemento.
+     * @param chave a função que extrai a chave de ordenação de cada elemento
+     */
+    public void ordenarPorChaveLong(ToLongFunction<? super E> chave) {
+        OrdenacaoRadix.ordenarPorChaveLong(elementos, 0, tamanho, chave);
+        modificacoes++;
+    }
+
+    /**
+     * Retorna um iterador sobre os elementos desta lista, na sequência correta.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int atual = 0;
+
+            @Override
+            public boolean hasNext() {
+                return atual < tamanho;
             }
-        }
+
+            @Override
+            public E next() {
+                if (atual >= tamanho) throw new NoSuchElementException("Não há mais elementos na lista.");
+                return elementos[atual++];
+            }
+        };
+    }
+
+    /**
+     * Retorna um {@code Spliterator} sobre o array subjacente, que se divide exatamente ao meio por índices.
+     * É o que permite ganho real com {@code parallelStream()}.
+     * @return um {@code Spliterator} ORDERED, SIZED e SUBSIZED sobre os elementos desta lista
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elementos, 0, tamanho, Spliterator.ORDERED);
     }
 
     /**
@@ -0,0 +1,297 @@
+package colecoes.ListaEstatica;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaCheiaExcecao;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Implementação de uma lista ordenada (baseada em array) que estende {@link ListaDinamica}.
+ * A lista está sempre ordenada de acordo com o comparador informado na construção: cada elemento é inserido
+ * na sua posição, localizada por busca binária, e os elementos seguintes são deslocados em bloco.
+ * Elementos equivalentes mantêm a ordem de chegada.
+ * <p>
+ * Como a ordem é garantida, {@code contem} e {@code indiceDe} custam O(log n). Operações que escolheriam
+ * a posição dos elementos ({@code inserir(indice, valor)}, {@code inserirTodos}, {@code definir},
+ * {@code ordenar} e {@code ordenarPorChave}) não são suportadas.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaOrdenada<E> extends ListaDinamica<E> {
+
+    protected final Comparator<? super E> comparador;
+
+    /**
+     * Constrói uma nova ListaOrdenada vazia, com tamanho inicial 24, ordenada pelo comparador especificado.
+     * @param comparador o {@code Comparator} que define a ordem da lista
+     */
+    public ListaOrdenada(Comparator<? super E> comparador) {
+        this(24, comparador);
+    }
+
+    /**
+     * Constrói uma nova ListaOrdenada vazia, com o tamanho inicial especificado, ordenada pelo comparador especificado.
+     * @param tamanhoMaximo o tamanho máximo inicial da lista
+     * @param comparador o {@code Comparator} que define a ordem da lista
+     */
+    public ListaOrdenada(int tamanhoMaximo, Comparator<? super E> comparador) {
+        this(tamanhoMaximo, PoliticaCrescimento.PADRAO, comparador);
+    }
+
+    /**
+     * Constrói uma nova ListaOrdenada vazia, com o tamanho inicial e a política de crescimento especificados,
+     * ordenada pelo comparador especificado.
+     * @param tamanhoMaximo o tamanho máximo inicial da lista
+     * @param politica a política que define como o array subjacente cresce e encolhe
+     * @param comparador o {@code Comparator} que define a ordem da lista
+     * @throws IllegalArgumentException se o comparador for nulo
+     */
+    public ListaOrdenada(int tamanhoMaximo, PoliticaCrescimento politica, Comparator<? super E> comparador) {
+        super(tamanhoMaximo, politica);
+        if (comparador == null) {
+            throw new IllegalArgumentException("O comparador não pode ser nulo.");
+        }
+        this.comparador = comparador;
+    }
+
+    /**
+     * Retorna o comparador que define a ordem desta lista.
+     * @return o comparador desta lista
+     */
+    public Comparator<? super E> comparador() {
+        return comparador;
+    }
+
+    /**
+     * Retorna o índice do primeiro elemento que não é menor que o valor especificado,
+     * ou o tamanho da lista se todos forem menores.
+     * @param valor o valor procurado
+     * @return o limite inferior do valor na lista
+     */
+    public int limiteInferior(E valor) {
+        int inicio = 0, fim = tamanho;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (comparador.compare(elementos[meio], valor) < 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Retorna o índice do primeiro elemento que é maior que o valor especificado,
+     * ou o tamanho da lista se nenhum for maior.
+     * @param valor o valor procurado
+     * @return o limite superior do valor na lista
+     */
+    public int limiteSuperior(E valor) {
+        int inicio = 0, fim = tamanho;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (comparador.compare(elementos[meio], valor) <= 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Procura o valor especificado por busca binária, em O(log n).
+     * Se houver elementos equivalentes ao valor, retorna o índice do primeiro deles.
+     * @param valor o valor procurado
+     * @return o índice do primeiro elemento equivalente ao valor, se houver; caso contrário,
+     *         {@code -(ponto de inserção) - 1}, como em {@link java.util.Arrays#binarySearch(Object[], Object)}
+     */
+    public int buscaBinaria(E valor) {
+        int indice = limiteInferior(valor);
+        if (indice < tamanho && comparador.compare(elementos[indice], valor) == 0) return indice;
+        return -(indice + 1);
+    }
+
+    /**
+     * Retorna uma nova lista ordenada com os elementos no intervalo [de, ate), copiados em bloco.
+     * @param de o menor valor do intervalo (inclusivo)
+     * @param ate o limite superior do intervalo (exclusivo)
+     * @return uma nova ListaOrdenada, com o mesmo comparador, contendo os elementos do intervalo
+     * @throws IllegalArgumentException se de for maior que ate
+     */
+    public ListaOrdenada<E> intervalo(E de, E ate) {
+        if (comparador.compare(de, ate) > 0) {
+            throw new IllegalArgumentException("O início do intervalo não pode ser maior que o fim.");
+        }
+        int inicio = limiteInferior(de);
+        int fim = Math.max(inicio, limiteInferior(ate));
+        ListaOrdenada<E> resultado = new ListaOrdenada<>(Math.max(1, fim - inicio), politica, comparador);
+        System.arraycopy(elementos, inicio, resultado.elementos, 0, fim - inicio);
+        resultado.tamanho = fim - inicio;
+        return resultado;
+    }
+
+    /**
+     * Adiciona o elemento especificado na sua posição de acordo com a ordem da lista, após os elementos
+     * equivalentes. A posição é encontrada por busca binária e a cauda é deslocada em bloco.
+     * @param valor o elemento a ser adicionado
+     * @throws ListaCheiaExcecao se a capacidade máxima da política for excedida
+     */
+    @Override
+    public void adicionar(E valor) throws ListaCheiaExcecao {
+        if (tamanho == elementos.length) garantirCapacidade(tamanho + 1);
+        int indice = limiteSuperior(valor);
+        System.arraycopy(elementos, indice, elementos, indice + 1, tamanho - indice);
+        elementos[indice] = valor;
+        tamanho++;
+        modificacoes++;
+        if (indiceHash != null) indiceHash.adicionar(valor);
+    }
+
+    /**
+     * Insere o elemento especificado na sua posição de acordo com a ordem da lista.
+     * Em uma lista ordenada, equivale a {@link #adicionar(Object)}.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        adicionar(valor);
+    }
+
+    /**
+     * Não suportado: a posição dos elementos é definida pelo comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        throw new UnsupportedOperationException("Lista Ordenada não permite inserir em uma posição específica!");
+    }
+
+    /**
+     * Não suportado: a posição dos elementos é definida pelo comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        throw new UnsupportedOperationException("Lista Ordenada não permite inserir em uma posição específica!");
+    }
+
+    /**
+     * Não suportado: substituir um elemento poderia quebrar a ordem da lista.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void definir(int indice, E valor) {
+        throw new UnsupportedOperationException("Lista Ordenada não permite substituir elementos!");
+    }
+
+    /**
+     * Não suportado: a lista já está sempre ordenada pelo seu próprio comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        throw new UnsupportedOperationException("Lista Ordenada já é ordenada pelo seu comparador!");
+    }
+
+    /**
+     * Não suportado: a lista já está sempre ordenada pelo seu próprio comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void ordenarParalelo(Comparator<E> comparador) {
+        throw new UnsupportedOperationException("Lista Ordenada já é ordenada pelo seu comparador!");
+    }
+
+    /**
+     * Não suportado: a lista já está sempre ordenada pelo seu próprio comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void ordenarPorChave(ToIntFunction<? super E> chave) {
+        throw new UnsupportedOperationException("Lista Ordenada já é ordenada pelo seu comparador!");
+    }
+
+    /**
+     * Não suportado: a lista já está sempre ordenada pelo seu próprio comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    public void ordenarPorChaveLong(ToLongFunction<? super E> chave) {
+        throw new UnsupportedOperationException("Lista Ordenada já é ordenada pelo seu comparador!");
+    }
+
+    /**
+     * Não suportado: reordenar um trecho (por exemplo, por uma sublista) quebraria a ordem do comparador.
+     * @throws UnsupportedOperationException sempre
+     */
+    @Override
+    protected void ordenarIntervalo(int de, int ate, Comparator<E> comparador) {
+        throw new UnsupportedOperationException("Lista Ordenada já é ordenada pelo seu comparador!");
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada, mantendo a ordem.
+     * Os novos elementos são ordenados entre si e então intercalados com os existentes de trás para frente,
+     * no próprio array, em O(n + m log m).
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     * @throws ListaCheiaExcecao se a capacidade máxima da política for excedida
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void adicionarTodos(Lista<E> outraLista) throws ListaCheiaExcecao {
+        E[] novos = outraLista.paraArray();
+        int quantidade = novos.length;
+        if (quantidade == 0) return;
+        garantirCapacidade(tamanho + quantidade);
+        OrdenacaoAdaptativa.ordenar(novos, 0, quantidade, comparador);
+        int i = tamanho - 1, j = quantidade - 1, destino = tamanho + quantidade - 1;
+        while (j >= 0) {
+            // Em caso de empate, o elemento já existente fica antes do novo
+            if (i >= 0 && comparador.compare(elementos[i], novos[j]) > 0) {
+                elementos[destino--] = elementos[i--];
+            } else {
+                elementos[destino--] = novos[j--];
+            }
+        }
+        tamanho += quantidade;
+        modificacoes++;
+        if (indiceHash != null) {
+            for (E valor : novos) indiceHash.adicionar(valor);
+        }
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado, em O(log n).
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista, ou -1 se esta lista
+     * não contiver o elemento. A busca binária localiza os elementos equivalentes em O(log n) e, entre eles,
+     * é retornado o primeiro que for igual ao valor.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Ordenada está Vazia!");
+        for (int i = limiteInferior(valor); i < tamanho && comparador.compare(elementos[i], valor) == 0; i++) {
+            if (valor == null ? elementos[i] == null : valor.equals(elementos[i])) return i;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,104 @@
+package colecoes.ListaEstatica;
+
+import excecoes.ListaCheiaExcecao;
+
+/**
+ * Define como o array subjacente de uma {@link ListaDinamica} cresce e encolhe.
+ * O crescimento multiplica a capacidade atual por um fator, limitado por um incremento máximo
+ * (para que listas enormes não dobrem de uma só vez) e por uma capacidade máxima absoluta.
+ * O encolhimento automático ocorre quando a ocupação cai abaixo de uma fração da capacidade.
+ * Instâncias são imutáveis e podem ser compartilhadas entre listas.
+ */
+public class PoliticaCrescimento {
+
+    /**
+     * Maior capacidade que pode ser alocada com segurança para um array.
+     */
+    public static final int CAPACIDADE_LIMITE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Política padrão: dobra a capacidade sem limite de incremento e nunca encolhe automaticamente.
+     */
+    public static final PoliticaCrescimento PADRAO = new PoliticaCrescimento(2.0, Integer.MAX_VALUE, CAPACIDADE_LIMITE, 0.0);
+
+    private final double fatorCrescimento;
+    private final int incrementoMaximo;
+    private final int capacidadeMaxima;
+    private final double fracaoEncolhimento;
+
+    /**
+     * Constrói uma nova PoliticaCrescimento.
+     * @param fatorCrescimento o fator pelo qual a capacidade é multiplicada ao crescer (maior que 1)
+     * @param incrementoMaximo o maior número de posições acrescentadas em um único crescimento
+     * @param capacidadeMaxima a capacidade que a lista nunca pode ultrapassar
+     * @param fracaoEncolhimento a ocupação abaixo da qual o array encolhe; 0 desativa o encolhimento automático
+     * @throws IllegalArgumentException se algum parâmetro for inválido, ou se a fração de encolhimento
+     *         multiplicada pelo fator de crescimento não for menor que 1 (o que faria a lista oscilar
+     *         entre crescer e encolher)
+     */
+    public PoliticaCrescimento(double fatorCrescimento, int incrementoMaximo, int capacidadeMaxima, double fracaoEncolhimento) {
+        if (!(fatorCrescimento > 1.0)) {
+            throw new IllegalArgumentException("O fator de crescimento deve ser maior que 1.");
+        }
+        if (incrementoMaximo <= 0) {
+            throw new IllegalArgumentException("O incremento máximo deve ser positivo.");
+        }
+        if (capacidadeMaxima <= 0 || capacidadeMaxima > CAPACIDADE_LIMITE) {
+            throw new IllegalArgumentException("A capacidade máxima deve estar entre 1 e " + CAPACIDADE_LIMITE + ".");
+        }
+        if (!(fracaoEncolhimento >= 0.0) || fracaoEncolhimento * fatorCrescimento >= 1.0) {
+            throw new IllegalArgumentException("A fração de encolhimento deve ser >= 0 e menor que 1 / fator de crescimento.");
+        }
+        this.fatorCrescimento = fatorCrescimento;
+        this.incrementoMaximo = incrementoMaximo;
+        this.capacidadeMaxima = capacidadeMaxima;
+        this.fracaoEncolhimento = fracaoEncolhimento;
+    }
+
+    /**
+     * Calcula a capacidade para a qual o array deve crescer.
+     * @param capacidadeAtual a capacidade atual do array
+     * @param capacidadeNecessaria a capacidade mínima exigida pela operação
+     * @return a nova capacidade, nunca menor que a necessária nem maior que a máxima
+     * @throws ListaCheiaExcecao se a capacidade necessária exceder a capacidade máxima
+     */
+    public int proximaCapacidade(int capacidadeAtual, int capacidadeNecessaria) throws ListaCheiaExcecao {
+        if (capacidadeNecessaria < 0 || capacidadeNecessaria > capacidadeMaxima) {
+            throw new ListaCheiaExcecao("Lista Dinâmica atingiu a capacidade máxima de " + capacidadeMaxima + " elementos!");
+        }
+        long crescida = Math.min((long) (capacidadeAtual * fatorCrescimento), (long) capacidadeAtual + incrementoMaximo);
+        long nova = Math.max(crescida, Math.max(capacidadeNecessaria, capacidadeAtual + 1L));
+        return (int) Math.min(nova, capacidadeMaxima);
+    }
+
+    /**
+     * Indica se um array com a capacidade e o tamanho informados deve encolher.
+     * @param tamanho o número de elementos ocupados
+     * @param capacidade a capacidade atual do array
+     * @param capacidadeMinima a capacidade abaixo da qual o array nunca encolhe
+     * @return true se a ocupação estiver abaixo da fração de encolhimento
+     */
+    public boolean deveEncolher(int tamanho, int capacidade, int capacidadeMinima) {
+        return fracaoEncolhimento > 0.0 && capacidade > capacidadeMinima && tamanho < capacidade * fracaoEncolhimento;
+    }
+
+    /**
+     * Calcula a capacidade após um encolhimento automático: o espaço de um crescimento acima do tamanho atual,
+     * de modo que a próxima adição não provoque um novo crescimento imediato.
+     * @param tamanho o número de elementos ocupados
+     * @param capacidadeMinima a capacidade abaixo da qual o array nunca encolhe
+     * @return a nova capacidade
+     */
+    public int capacidadeAposEncolher(int tamanho, int capacidadeMinima) {
+        return Math.max(capacidadeMinima, proximaCapacidade(tamanho, tamanho));
+    }
+
+    /**
+     * Retorna a capacidade que a lista nunca pode ultrapassar.
+     * @return a capacidade máxima
+     */
+    public int capacidadeMaxima() {
+        return capacidadeMaxima;
+    }
+
+}
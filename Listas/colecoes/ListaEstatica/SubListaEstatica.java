@@ -0,0 +1,353 @@
+package colecoes.ListaEstatica;
+
+import colecoes.Lista;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * Visão de um intervalo [de, ate) de uma {@link ListaEstatica}, criada por {@link ListaEstatica#subLista(int, int)}.
+ * Não copia elementos: leituras e iteração acessam diretamente o array da lista original, e as alterações são
+ * feitas na lista original, nas posições correspondentes. A sublista guarda o contador de modificações da lista
+ * original e lança {@link ConcurrentModificationException} se ela tiver sido alterada estruturalmente por fora.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+class SubListaEstatica<E> implements Lista<E> {
+
+    private final ListaEstatica<E> lista;
+    private final int de;
+    private int ate;
+    private int modificacoes;
+
+    SubListaEstatica(ListaEstatica<E> lista, int de, int ate) {
+        this.lista = lista;
+        this.de = de;
+        this.ate = ate;
+        this.modificacoes = lista.modificacoes;
+    }
+
+    /**
+     * Verifica se a lista original não foi alterada estruturalmente por fora desta sublista.
+     * @throws ConcurrentModificationException se a lista original tiver sido alterada
+     */
+    private void verificarModificacoes() {
+        if (lista.modificacoes != modificacoes) {
+            throw new ConcurrentModificationException("A lista foi modificada fora desta sublista.");
+        }
+    }
+
+    /**
+     * Atualiza o fim e o contador de modificações depois de uma alteração feita através desta sublista.
+     */
+    private void sincronizar(int tamanhoAnterior) {
+        ate += lista.tamanho - tamanhoAnterior;
+        modificacoes = lista.modificacoes;
+    }
+
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= ate - de) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (ate - de - 1) + "]");
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta sublista, logo após o seu último elemento na lista original.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        inserir(tamanho(), valor);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta sublista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta sublista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        int tamanho = tamanho();
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        int tamanhoAnterior = lista.tamanho;
+        lista.inserir(de + indice, valor);
+        sincronizar(tamanhoAnterior);
+    }
+
+    /**
+     * Remove e retorna o último elemento desta sublista.
+     * @return o último elemento desta sublista
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        return removerPorIndice(ate - de - 1);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta sublista.
+     * @return o primeiro elemento desta sublista
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta sublista.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        verificarIndice(indice);
+        int tamanhoAnterior = lista.tamanho;
+        E valor = lista.removerPorIndice(de + indice);
+        sincronizar(tamanhoAnterior);
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta sublista, se estiver presente.
+     * @param valor o elemento a ser removido desta sublista, se presente
+     * @return true se esta sublista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta sublista, lido diretamente do array da lista original.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        verificarIndice(indice);
+        return lista.elementos[de + indice];
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta sublista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        verificarIndice(indice);
+        lista.definir(de + indice, valor);
+    }
+
+    /**
+     * Retorna true se esta sublista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta sublista deve ser testada
+     * @return true se esta sublista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta sublista,
+     * ou -1 se esta sublista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta sublista,
+     *         ou -1 se esta sublista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta sublista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Sublista está Vazia!");
+        E[] elementos = lista.elementos;
+        for (int i = de; i < ate; i++) {
+            if (valor == null ? elementos[i] == null : valor.equals(elementos[i])) return i - de;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta sublista.
+     * @return o número de elementos nesta sublista
+     * @throws ConcurrentModificationException se a lista original tiver sido alterada por fora desta sublista
+     */
+    @Override
+    public int tamanho() {
+        verificarModificacoes();
+        return ate - de;
+    }
+
+    /**
+     * Remove da lista original todos os elementos desta sublista, com um único deslocamento em bloco.
+     */
+    @Override
+    public void limpar() {
+        verificarModificacoes();
+        int tamanhoAnterior = lista.tamanho;
+        lista.removerIntervalo(de, ate);
+        sincronizar(tamanhoAnterior);
+    }
+
+    /**
+     * Retorna true se esta sublista não contiver elementos.
+     * @return true se esta sublista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho() == 0;
+    }
+
+    /**
+     * Retorna um novo array contendo todos os elementos desta sublista na sequência correta.
+     * @return um array contendo todos os elementos desta sublista na sequência correta
+     */
+    @Override
+    public E[] paraArray() {
+        verificarModificacoes();
+        return Arrays.copyOfRange(lista.elementos, de, ate);
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta sublista.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta sublista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        inserirTodos(tamanho(), outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta sublista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta sublista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        int tamanho = tamanho();
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        int tamanhoAnterior = lista.tamanho;
+        lista.inserirTodos(de + indice, outraLista);
+        sincronizar(tamanhoAnterior);
+    }
+
+    /**
+     * Remove desta sublista os elementos que satisfazem o predicado especificado, compactando apenas o seu intervalo
+     * e deslocando o restante da lista original uma única vez.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        verificarModificacoes();
+        int tamanhoAnterior = lista.tamanho;
+        try {
+            return lista.removerSeNoIntervalo(de, ate, filtro) > 0;
+        } finally {
+            sincronizar(tamanhoAnterior);
+        }
+    }
+
+    /**
+     * Ordena apenas os elementos desta sublista, no próprio array da lista original.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        verificarModificacoes();
+        lista.ordenarIntervalo(de, ate, comparador);
+        modificacoes = lista.modificacoes;
+    }
+
+    /**
+     * Retorna um iterador que percorre diretamente o trecho do array da lista original.
+     * O iterador falha rapidamente se a lista original for alterada estruturalmente.
+     * @return um iterador sobre os elementos desta sublista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        verificarModificacoes();
+        return new Iterator<E>() {
+            private int atual = de;
+
+            @Override
+            public boolean hasNext() {
+                return atual < ate;
+            }
+
+            @Override
+            public E next() {
+                verificarModificacoes();
+                if (atual >= ate) throw new NoSuchElementException("Não há mais elementos na lista.");
+                return lista.elementos[atual++];
+            }
+        };
+    }
+
+    /**
+     * Retorna um {@code Spliterator} sobre o trecho do array da lista original, que se divide exatamente por índices.
+     * @return um {@code Spliterator} ORDERED, SIZED e SUBSIZED sobre os elementos desta sublista
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        verificarModificacoes();
+        return Spliterators.spliterator(lista.elementos, de, ate, Spliterator.ORDERED);
+    }
+
+    /**
+     * Retorna uma representação em string desta sublista.
+     * @return uma representação em string desta sublista
+     */
+    @Override
+    public String toString() {
+        verificarModificacoes();
+        StringBuilder dadosLista = new StringBuilder("[");
+
+        for (int i = de; i < ate; i++) {
+            dadosLista.append(lista.elementos[i]);
+
+            if (i < ate - 1) {
+                dadosLista.append(", ");
+            }
+        }
+
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -0,0 +1,104 @@
+package colecoes.ListaForaDoHeap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Interface que define como um elemento é convertido de e para um registro de largura fixa em bytes.
+ * É usada por {@link ListaForaDoHeap} para guardar os elementos fora do heap da JVM.
+ * @param <E> o tipo de elementos que este codificador converte
+ */
+public interface Codificador<E> {
+
+    /**
+     * Retorna o número de bytes ocupados por cada registro.
+     * @return a largura fixa de um registro, em bytes
+     */
+    int largura();
+
+    /**
+     * Escreve o elemento especificado no buffer, a partir da posição absoluta informada.
+     * Deve escrever exatamente {@link #largura()} bytes e não alterar a posição do buffer.
+     * @param buffer o buffer de destino
+     * @param posicao a posição, em bytes, onde o registro começa
+     * @param valor o elemento a ser escrito
+     */
+    void escrever(ByteBuffer buffer, int posicao, E valor);
+
+    /**
+     * Lê o elemento gravado no buffer a partir da posição absoluta informada, sem alterar a posição do buffer.
+     * @param buffer o buffer de origem
+     * @param posicao a posição, em bytes, onde o registro começa
+     * @return o elemento lido
+     */
+    E ler(ByteBuffer buffer, int posicao);
+
+    /**
+     * Retorna um codificador para {@code Integer} com registros de 4 bytes.
+     * @return o codificador de inteiros
+     */
+    static Codificador<Integer> inteiro() {
+        return new Codificador<Integer>() {
+            @Override
+            public int largura() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void escrever(ByteBuffer buffer, int posicao, Integer valor) {
+                buffer.putInt(posicao, valor);
+            }
+
+            @Override
+            public Integer ler(ByteBuffer buffer, int posicao) {
+                return buffer.getInt(posicao);
+            }
+        };
+    }
+
+    /**
+     * Retorna um codificador para {@code Long} com registros de 8 bytes.
+     * @return o codificador de longos
+     */
+    static Codificador<Long> longo() {
+        return new Codificador<Long>() {
+            @Override
+            public int largura() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void escrever(ByteBuffer buffer, int posicao, Long valor) {
+                buffer.putLong(posicao, valor);
+            }
+
+            @Override
+            public Long ler(ByteBuffer buffer, int posicao) {
+                return buffer.getLong(posicao);
+            }
+        };
+    }
+
+    /**
+     * Retorna um codificador para {@code Double} com registros de 8 bytes.
+     * @return o codificador de doubles
+     */
+    static Codificador<Double> duplo() {
+        return new Codificador<Double>() {
+            @Override
+            public int largura() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void escrever(ByteBuffer buffer, int posicao, Double valor) {
+                buffer.putDouble(posicao, valor);
+            }
+
+            @Override
+            public Double ler(ByteBuffer buffer, int posicao) {
+                return buffer.getDouble(posicao);
+            }
+        };
+    }
+
+}
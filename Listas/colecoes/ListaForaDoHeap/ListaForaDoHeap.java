@@ -0,0 +1,565 @@
+package colecoes.ListaForaDoHeap;
+
+import colecoes.ArquivoLista;
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementação de uma lista dinâmica cujos elementos ficam fora do heap da JVM, em um {@link ByteBuffer} direto.
+ * Cada elemento é gravado como um registro de largura fixa por um {@link Codificador}, de modo que milhões de
+ * registros não aumentam o heap nem o trabalho do coletor de lixo: apenas o buffer é um objeto.
+ * Os elementos são decodificados a cada leitura, portanto as operações devolvem cópias dos valores.
+ * <p>
+ * A memória nativa é devolvida ao sistema em {@link #close()}, e o buffer antigo é devolvido da mesma forma
+ * sempre que a lista cresce, sem esperar pelo coletor de lixo. Para isso a lista usa
+ * {@code sun.misc.Unsafe.invokeCleaner}, do módulo {@code jdk.unsupported}, presente no JDK sem opções
+ * adicionais. Se esse método não estiver disponível, a memória volta a ser liberada somente quando o coletor
+ * recolher o buffer. Depois de {@link #close()} qualquer operação lança {@link IllegalStateException}.
+ * O uso recomendado é com {@code try-with-resources}.
+ * <p>
+ * Limites: todos os registros ficam em um único {@code ByteBuffer}, endereçado por {@code int}, portanto a lista
+ * comporta no máximo cerca de 2 GB de registros (por exemplo, ~268 milhões de registros de 8 bytes ou ~67 milhões
+ * de 32 bytes). Os buffers diretos também contam para o limite {@code -XX:MaxDirectMemorySize}, que por padrão é
+ * igual ao tamanho máximo do heap; ao crescer, o buffer novo e o antigo coexistem durante a cópia.
+ * <p>
+ * A lista pode ser salva em arquivo com {@link #salvar(Path)} e reaberta com {@link #carregar}: a carga mapeia o
+ * arquivo diretamente como memória da lista, sem copiar nem decodificar nada, e as páginas só são lidas do disco
+ * quando acessadas. Alterações em uma lista carregada ficam na memória do processo e não modificam o arquivo.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaForaDoHeap<E> implements Lista<E>, AutoCloseable {
+
+    private static final int CAPACIDADE_PADRAO = 24;
+    private static final int BYTES_MAXIMOS = Integer.MAX_VALUE - 8;
+
+    /**
+     * {@code Unsafe.invokeCleaner} ligado à instância de {@code Unsafe}, ou null se não estiver disponível.
+     */
+    private static final MethodHandle LIBERADOR = localizarLiberador();
+
+    protected final Codificador<E> codificador;
+    protected final int largura;
+    protected ByteBuffer memoria;
+    protected int tamanho;
+
+    /**
+     * Constrói uma nova ListaForaDoHeap com a capacidade inicial padrão.
+     * @param codificador o codificador que converte os elementos em registros de largura fixa
+     */
+    public ListaForaDoHeap(Codificador<E> codificador) {
+        this(codificador, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaForaDoHeap com a capacidade inicial especificada.
+     * @param codificador o codificador que converte os elementos em registros de largura fixa
+     * @param capacidadeInicial o número de registros reservados inicialmente
+     * @throws IllegalArgumentException se a capacidade inicial ou a largura do codificador não forem positivas
+     */
+    public ListaForaDoHeap(Codificador<E> codificador, int capacidadeInicial) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("A capacidade inicial deve ser positiva.");
+        }
+        if (codificador.largura() <= 0) {
+            throw new IllegalArgumentException("A largura do registro deve ser positiva.");
+        }
+        this.codificador = codificador;
+        this.largura = codificador.largura();
+        this.memoria = alocar((long) capacidadeInicial * largura);
+    }
+
+    /**
+     * Constrói uma lista sobre um buffer já preenchido, como o mapeamento de um arquivo salvo.
+     */
+    private ListaForaDoHeap(Codificador<E> codificador, ByteBuffer memoria, int tamanho) {
+        this.codificador = codificador;
+        this.largura = codificador.largura();
+        this.memoria = memoria;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Aloca um buffer direto com a ordem de bytes nativa da plataforma.
+     */
+    private static ByteBuffer alocar(long bytes) {
+        if (bytes > BYTES_MAXIMOS) {
+            throw new OutOfMemoryError("A lista fora do heap excede o limite de um ByteBuffer.");
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Localiza {@code sun.misc.Unsafe.invokeCleaner} por reflexão, para não depender dele em tempo de compilação.
+     */
+    private static MethodHandle localizarLiberador() {
+        try {
+            Class<?> unsafe = Class.forName("sun.misc.Unsafe");
+            Field instancia = unsafe.getDeclaredField("theUnsafe");
+            instancia.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafe, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(instancia.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Devolve imediatamente a memória nativa do buffer (ou desfaz o mapeamento do arquivo).
+     * O buffer não pode ser usado depois desta chamada.
+     */
+    private static void liberar(ByteBuffer buffer) {
+        if (LIBERADOR == null) return;
+        try {
+            LIBERADOR.invokeExact(buffer);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // O buffer não pôde ser liberado agora; o coletor de lixo o fará
+        }
+    }
+
+    /**
+     * Verifica se a lista ainda não foi fechada.
+     * @throws IllegalStateException se a lista já tiver sido fechada
+     */
+    protected void verificarAberta() {
+        if (memoria == null) throw new IllegalStateException("Lista Fora do Heap foi fechada!");
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (tamanho - 1) + "]");
+    }
+
+    /**
+     * Garante que o buffer comporte pelo menos a quantidade de registros especificada.
+     * Assim como o {@code recriarArray} da lista dinâmica, a capacidade dobra, mas a cópia é feita
+     * em bloco entre buffers nativos e o buffer antigo não pesa no heap.
+     * @param capacidadeNecessaria a quantidade mínima de registros
+     */
+    protected void garantirCapacidade(int capacidadeNecessaria) {
+        int capacidadeAtual = capacidade();
+        if (capacidadeNecessaria <= capacidadeAtual) return;
+        long novaCapacidade = Math.max((long) capacidadeAtual * 2, capacidadeNecessaria);
+        novaCapacidade = Math.min(novaCapacidade, Math.max(capacidadeNecessaria, BYTES_MAXIMOS / largura));
+        // Preserva a ordem de bytes dos registros, que pode não ser a nativa em uma lista carregada de arquivo
+        ByteBuffer novaMemoria = alocar(novaCapacidade * largura).order(memoria.order());
+        novaMemoria.put(0, memoria, 0, tamanho * largura);
+        ByteBuffer antiga = memoria;
+        memoria = novaMemoria;
+        liberar(antiga);
+    }
+
+    /**
+     * Retorna o número de registros que o buffer comporta sem ser realocado.
+     * @return a capacidade atual da lista
+     */
+    public int capacidade() {
+        verificarAberta();
+        return memoria.capacity() / largura;
+    }
+
+    /**
+     * Desloca os registros [de, tamanho) para começarem na posição para, com uma cópia em bloco.
+     */
+    private void deslocar(int de, int para) {
+        // O put absoluto entre trechos do mesmo buffer se comporta como se usasse uma cópia intermediária
+        memoria.put(para * largura, memoria, de * largura, (tamanho - de) * largura);
+    }
+
+    private E ler(int indice) {
+        return codificador.ler(memoria, indice * largura);
+    }
+
+    private void escrever(int indice, E valor) {
+        codificador.escrever(memoria, indice * largura, valor);
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        verificarAberta();
+        if (tamanho == capacidade()) garantirCapacidade(tamanho + 1);
+        escrever(tamanho, valor);
+        tamanho++;
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        verificarAberta();
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        if (tamanho == capacidade()) garantirCapacidade(tamanho + 1);
+        deslocar(indice, indice + 1);
+        escrever(indice, valor);
+        tamanho++;
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Fora do Heap está Vazia!");
+        return ler(--tamanho);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * Desloca quaisquer elementos subsequentes para a esquerda.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Fora do Heap está Vazia!");
+        verificarIndice(indice);
+        E valor = ler(indice);
+        deslocar(indice + 1, indice);
+        tamanho--;
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista, decodificado do seu registro.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Fora do Heap está Vazia!");
+        verificarIndice(indice);
+        return ler(indice);
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Fora do Heap está Vazia!");
+        verificarIndice(indice);
+        escrever(indice, valor);
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento. Os registros são comparados após decodificados.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Fora do Heap está Vazia!");
+        for (int i = 0; i < tamanho; i++) {
+            E atual = ler(i);
+            if (valor == null ? atual == null : valor.equals(atual)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Remove todos os elementos desta lista. A memória nativa reservada é mantida para reuso.
+     */
+    @Override
+    public void limpar() {
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        verificarAberta();
+        return tamanho == 0;
+    }
+
+    /**
+     * Retorna um array no heap contendo todos os elementos desta lista, decodificados, na sequência correta.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        verificarAberta();
+        E[] array = (E[]) new Object[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            array[i] = ler(i);
+        }
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * A capacidade é ajustada uma única vez antes da cópia.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        verificarAberta();
+        E[] origem = outraLista.paraArray();
+        garantirCapacidade(tamanho + origem.length);
+        for (E elemento : origem) {
+            escrever(tamanho++, elemento);
+        }
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * Os registros seguintes são deslocados uma única vez, com uma cópia em bloco.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        verificarAberta();
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        E[] origem = outraLista.paraArray();
+        garantirCapacidade(tamanho + origem.length);
+        deslocar(indice, indice + origem.length);
+        for (E elemento : origem) {
+            escrever(indice++, elemento);
+        }
+        tamanho += origem.length;
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado em uma única passada, compactando os
+     * registros com dois ponteiros: cada registro mantido é copiado uma única vez, em bloco, para a próxima posição livre.
+     * Se o predicado lançar uma exceção, os registros ainda não examinados são mantidos.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        verificarAberta();
+        int tamanhoOriginal = tamanho;
+        int leitura = 0;
+        int escrita = 0;
+        try {
+            for (; leitura < tamanhoOriginal; leitura++) {
+                if (!filtro.test(ler(leitura))) {
+                    if (escrita != leitura) memoria.put(escrita * largura, memoria, leitura * largura, largura);
+                    escrita++;
+                }
+            }
+        } finally {
+            if (leitura < tamanhoOriginal && escrita != leitura) {
+                memoria.put(escrita * largura, memoria, leitura * largura, (tamanhoOriginal - leitura) * largura);
+            }
+            tamanho = escrita + (tamanhoOriginal - leitura);
+        }
+        return tamanho != tamanhoOriginal;
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os registros são decodificados para um array temporário, ordenados de forma estável e gravados de volta.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        E[] array = paraArray();
+        OrdenacaoAdaptativa.ordenar(array, 0, array.length, comparador);
+        for (int i = 0; i < array.length; i++) {
+            escrever(i, array[i]);
+        }
+    }
+
+    /**
+     * Retorna um iterador que decodifica os registros desta lista na sequência correta.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        verificarAberta();
+        return new Iterator<E>() {
+            private int atual = 0;
+
+            @Override
+            public boolean hasNext() {
+                return atual < tamanho;
+            }
+
+            @Override
+            public E next() {
+                if (atual >= tamanho) throw new NoSuchElementException("Não há mais elementos na lista.");
+                return ler(atual++);
+            }
+        };
+    }
+
+    /**
+     * Salva os registros desta lista em um arquivo no formato de {@link ArquivoLista}, com uma cópia em bloco
+     * do buffer para a memória mapeada do arquivo.
+     * @param caminho o arquivo de destino, substituído se existir
+     * @throws IOException se ocorrer um erro de entrada e saída
+     */
+    public void salvar(Path caminho) throws IOException {
+        verificarAberta();
+        if (memoria.order() != ByteOrder.nativeOrder()) {
+            throw new IOException("Uma lista carregada com outra ordem de bytes não pode ser salva nesta plataforma.");
+        }
+        ArquivoLista.salvar(caminho, ArquivoLista.TIPO_REGISTRO, largura, tamanho,
+                (buffer, primeiro, quantidade) -> buffer.put(0, memoria, (int) primeiro * largura, quantidade * largura));
+    }
+
+    /**
+     * Carrega uma lista salva com {@link #salvar(Path)}, mapeando o arquivo como memória da lista, sem cópia.
+     * Os registros são lidos do disco sob demanda, à medida que são acessados, e alterações feitas na lista
+     * não modificam o arquivo. Verificar o checksum lê o arquivo inteiro antes de retornar.
+     * @param caminho o arquivo a ser carregado
+     * @param codificador o codificador usado ao salvar a lista
+     * @param verificarChecksum se o checksum dos dados deve ser conferido antes da carga
+     * @param <E> o tipo de elementos da lista
+     * @return uma nova lista cujos registros são o próprio arquivo mapeado
+     * @throws IOException se ocorrer um erro de entrada e saída, se a largura dos registros do arquivo não for
+     *         a do codificador ou se o checksum não conferir
+     */
+    public static <E> ListaForaDoHeap<E> carregar(Path caminho, Codificador<E> codificador, boolean verificarChecksum) throws IOException {
+        if (codificador.largura() <= 0) {
+            throw new IllegalArgumentException("A largura do registro deve ser positiva.");
+        }
+        ArquivoLista arquivo = ArquivoLista.abrir(caminho, ArquivoLista.TIPO_REGISTRO, codificador.largura());
+        if (arquivo.tamanho() * codificador.largura() > BYTES_MAXIMOS) {
+            throw new IOException("O arquivo excede o limite de um ByteBuffer.");
+        }
+        if (verificarChecksum) arquivo.verificarChecksum();
+        return new ListaForaDoHeap<>(codificador, arquivo.mapear(FileChannel.MapMode.PRIVATE), (int) arquivo.tamanho());
+    }
+
+    /**
+     * Fecha esta lista e devolve imediatamente a memória nativa do buffer (ou desfaz o mapeamento do arquivo,
+     * em uma lista carregada). Chamadas repetidas não têm efeito.
+     */
+    @Override
+    public void close() {
+        ByteBuffer antiga = memoria;
+        memoria = null;
+        tamanho = 0;
+        if (antiga != null) liberar(antiga);
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        if (memoria == null) return "[fechada]";
+        StringBuilder dadosLista = new StringBuilder("[");
+
+        for (int i = 0; i < tamanho; i++) {
+            dadosLista.append(ler(i));
+
+            if (i < tamanho - 1) {
+                dadosLista.append(", ");
+            }
+        }
+
+        return dadosLista.append("]").toString();
+    }
+
+}
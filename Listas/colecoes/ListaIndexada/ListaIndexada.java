@@ -0,0 +1,689 @@
+package colecoes.ListaIndexada;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Implementação de uma lista duplamente encadeada sem objetos nó, que adere à interface {@link Lista}.
+ * Cada elemento ocupa uma posição (slot) de três arrays paralelos: {@code valores}, {@code proximo} e
+ * {@code anterior}, e os encadeamentos são índices {@code int} em vez de referências. Slots liberados por
+ * remoções formam uma lista livre, encadeada pelo próprio array {@code proximo}, e são reaproveitados
+ * pelas inserções seguintes.
+ * <p>
+ * Em relação a {@link colecoes.ListaEncadeada.ListaDuplamenteEncadeada}, a lista não cria um objeto por
+ * elemento: o coletor de lixo percorre apenas os três arrays, e os encadeamentos ficam contíguos na memória.
+ * Cada elemento tem uma referência estável, um {@code long} que junta o número do slot (32 bits inferiores) e a
+ * geração do slot (32 bits superiores): com ela, {@link #removerPorReferencia(long)},
+ * {@link #inserirApos(long, Object)} e {@link #inserirAntes(long, Object)} custam O(1), sem busca por índice.
+ * A geração de um slot avança sempre que o seu elemento é removido e quando a lista é ordenada, compactada ou
+ * limpa; uma referência antiga, mesmo que o slot já tenha sido reaproveitado por outro elemento, é então
+ * rejeitada com {@link IllegalArgumentException} em vez de alcançar o elemento novo. (A geração tem 32 bits e
+ * dá a volta depois de 2<sup>32</sup> reaproveitamentos do mesmo slot.)
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaIndexada<E> implements Lista<E> {
+
+    /**
+     * Referência que indica a ausência de elemento (antes do primeiro, depois do último ou em uma lista vazia).
+     * Também é o valor de encadeamento que indica a ausência de slot.
+     */
+    public static final int NULO = -1;
+
+    private static final int LIVRE = -2; // Marca no array anterior de um slot que está na lista livre
+    private static final int CAPACIDADE_PADRAO = 16;
+    private static final int CAPACIDADE_MAXIMA = Integer.MAX_VALUE - 8;
+
+    protected E[] valores;
+    protected int[] proximo;
+    protected int[] anterior;
+    protected int[] geracoes;     // Geração de cada slot, parte das referências entregues
+    protected int cabeca = NULO;
+    protected int cauda = NULO;
+    protected int tamanho;
+    protected int livre = NULO;  // Primeiro slot da lista livre
+    protected int usados;        // Slots [0, usados) já foram ocupados alguma vez; os demais nunca foram usados
+
+    /**
+     * Constrói uma nova ListaIndexada com a capacidade inicial padrão.
+     */
+    public ListaIndexada() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaIndexada com a capacidade inicial especificada.
+     * @param capacidadeInicial a capacidade inicial da lista
+     * @throws IllegalArgumentException se a capacidade inicial for menor ou igual a zero
+     */
+    @SuppressWarnings("unchecked")
+    public ListaIndexada(int capacidadeInicial) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("A capacidade inicial deve ser positiva.");
+        }
+        valores = (E[]) new Object[capacidadeInicial];
+        proximo = new int[capacidadeInicial];
+        anterior = new int[capacidadeInicial];
+        geracoes = new int[capacidadeInicial];
+    }
+
+    /**
+     * Garante que os arrays comportem pelo menos a quantidade de slots especificada, crescendo todos juntos.
+     * @param capacidadeNecessaria a quantidade mínima de slots
+     */
+    protected void garantirCapacidade(int capacidadeNecessaria) {
+        if (capacidadeNecessaria < 0 || capacidadeNecessaria > CAPACIDADE_MAXIMA) {
+            throw new OutOfMemoryError("Capacidade necessária excede o limite da lista indexada.");
+        }
+        if (capacidadeNecessaria <= valores.length) return;
+        int novaCapacidade = (int) Math.min(CAPACIDADE_MAXIMA, Math.max(2L * valores.length, capacidadeNecessaria));
+        valores = Arrays.copyOf(valores, novaCapacidade);
+        proximo = Arrays.copyOf(proximo, novaCapacidade);
+        anterior = Arrays.copyOf(anterior, novaCapacidade);
+        geracoes = Arrays.copyOf(geracoes, novaCapacidade);
+    }
+
+    /**
+     * Retorna um slot para o valor especificado, reaproveitando a lista livre antes de usar slots novos.
+     * @param valor o valor a ser armazenado
+     * @return o slot alocado, ainda não ligado à lista
+     */
+    private int alocar(E valor) {
+        int slot;
+        if (livre != NULO) {
+            slot = livre;
+            livre = proximo[slot];
+        } else {
+            if (usados == valores.length) garantirCapacidade(usados + 1);
+            slot = usados++;
+        }
+        valores[slot] = valor;
+        return slot;
+    }
+
+    /**
+     * Devolve o slot à lista livre, libera o valor armazenado e invalida as referências entregues para ele.
+     */
+    private void liberar(int slot) {
+        valores[slot] = null; // Limpa a referência para coleta de lixo
+        geracoes[slot]++;
+        anterior[slot] = LIVRE;
+        proximo[slot] = livre;
+        livre = slot;
+    }
+
+    /**
+     * Liga o slot entre os slots especificados, que devem ser vizinhos na lista (ou {@link #NULO} nas pontas).
+     */
+    private void ligar(int slot, int antes, int depois) {
+        anterior[slot] = antes;
+        proximo[slot] = depois;
+        if (antes == NULO) cabeca = slot; else proximo[antes] = slot;
+        if (depois == NULO) cauda = slot; else anterior[depois] = slot;
+        tamanho++;
+    }
+
+    /**
+     * Desliga o slot da lista, devolve-o à lista livre e retorna o valor que ele armazenava, em O(1).
+     */
+    private E desligar(int slot) {
+        int antes = anterior[slot];
+        int depois = proximo[slot];
+        if (antes == NULO) cabeca = depois; else proximo[antes] = depois;
+        if (depois == NULO) cauda = antes; else anterior[depois] = antes;
+        E valor = valores[slot];
+        liberar(slot);
+        tamanho--;
+        return valor;
+    }
+
+    /**
+     * Retorna o slot na posição especificada, percorrendo a lista a partir da ponta mais próxima.
+     * @param indice o índice do elemento
+     * @return o slot do elemento
+     */
+    protected int obterSlot(int indice) {
+        int slot;
+        if (indice < tamanho / 2) {
+            slot = cabeca;
+            for (int i = 0; i < indice; i++) slot = proximo[slot];
+        } else {
+            slot = cauda;
+            for (int i = tamanho - 1; i > indice; i--) slot = anterior[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (tamanho - 1) + "]");
+    }
+
+    /**
+     * Verifica se a referência aponta para um slot ocupado, na mesma geração em que a referência foi entregue.
+     * @param referencia a referência a ser verificada
+     * @return o slot do elemento
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento da lista
+     */
+    protected int verificarReferencia(long referencia) {
+        int slot = (int) referencia;
+        if (slot < 0 || slot >= usados || anterior[slot] == LIVRE || geracoes[slot] != (int) (referencia >>> 32)) {
+            throw new IllegalArgumentException("Referência inválida: " + referencia);
+        }
+        return slot;
+    }
+
+    /**
+     * Retorna a referência do slot especificado, com a sua geração atual, ou {@link #NULO}.
+     */
+    protected long referencia(int slot) {
+        return slot == NULO ? NULO : ((long) geracoes[slot] << 32) | slot;
+    }
+
+    /**
+     * Avança a geração dos slots [0, ate), invalidando todas as referências entregues para eles.
+     */
+    private void invalidarReferencias(int ate) {
+        for (int i = 0; i < ate; i++) {
+            geracoes[i]++;
+        }
+    }
+
+    /**
+     * Retorna o número de slots que os arrays subjacentes comportam sem serem realocados.
+     * @return a capacidade atual da lista
+     */
+    public int capacidade() {
+        return valores.length;
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        adicionarComReferencia(valor);
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista e retorna a sua referência.
+     * @param valor o elemento a ser adicionado
+     * @return a referência do novo elemento
+     */
+    public long adicionarComReferencia(E valor) {
+        int slot = alocar(valor);
+        ligar(slot, cauda, NULO);
+        return referencia(slot);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserirComReferencia(valor);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista e retorna a sua referência.
+     * @param valor o elemento a ser inserido
+     * @return a referência do novo elemento
+     */
+    public long inserirComReferencia(E valor) {
+        int slot = alocar(valor);
+        ligar(slot, NULO, cabeca);
+        return referencia(slot);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        if (indice <= 0) {
+            inserir(valor);
+        } else if (indice >= tamanho) {
+            adicionar(valor);
+        } else {
+            int depois = obterSlot(indice);
+            ligar(alocar(valor), anterior[depois], depois);
+        }
+    }
+
+    /**
+     * Insere o elemento especificado logo depois do elemento da referência especificada, em O(1).
+     * @param referencia a referência do elemento que precederá o novo elemento
+     * @param valor o elemento a ser inserido
+     * @return a referência do novo elemento
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public long inserirApos(long referencia, E valor) {
+        int antes = verificarReferencia(referencia);
+        int slot = alocar(valor);
+        ligar(slot, antes, proximo[antes]);
+        return referencia(slot);
+    }
+
+    /**
+     * Insere o elemento especificado logo antes do elemento da referência especificada, em O(1).
+     * @param referencia a referência do elemento que sucederá o novo elemento
+     * @param valor o elemento a ser inserido
+     * @return a referência do novo elemento
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public long inserirAntes(long referencia, E valor) {
+        int depois = verificarReferencia(referencia);
+        int slot = alocar(valor);
+        ligar(slot, anterior[depois], depois);
+        return referencia(slot);
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        return desligar(cauda);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        return desligar(cabeca);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        verificarIndice(indice);
+        return desligar(obterSlot(indice));
+    }
+
+    /**
+     * Remove e retorna o elemento da referência especificada, em O(1). A referência deixa de ser válida.
+     * @param referencia a referência do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public E removerPorReferencia(long referencia) {
+        return desligar(verificarReferencia(referencia));
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * O slot encontrado é desligado diretamente, sem uma segunda busca por índice.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        int slot = slotDe(valor);
+        if (slot != NULO) {
+            desligar(slot);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        verificarIndice(indice);
+        return valores[obterSlot(indice)];
+    }
+
+    /**
+     * Retorna o elemento da referência especificada, em O(1).
+     * @param referencia a referência do elemento
+     * @return o elemento da referência especificada
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public E obterPorReferencia(long referencia) {
+        return valores[verificarReferencia(referencia)];
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        verificarIndice(indice);
+        valores[obterSlot(indice)] = valor;
+    }
+
+    /**
+     * Substitui o elemento da referência especificada, em O(1). A referência continua válida.
+     * @param referencia a referência do elemento a ser substituído
+     * @param valor o novo elemento
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public void definirPorReferencia(long referencia, E valor) {
+        valores[verificarReferencia(referencia)] = valor;
+    }
+
+    /**
+     * Retorna a referência do elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento
+     * @return a referência do elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    public long referenciaNoIndice(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        verificarIndice(indice);
+        return referencia(obterSlot(indice));
+    }
+
+    /**
+     * Retorna a referência da primeira ocorrência do elemento especificado, ou {@link #NULO} se não houver.
+     * @param valor o elemento a ser pesquisado
+     * @return a referência da primeira ocorrência, ou {@link #NULO}
+     */
+    public long referenciaDe(E valor) {
+        return referencia(slotDe(valor));
+    }
+
+    /**
+     * Retorna o slot da primeira ocorrência do elemento especificado, ou {@link #NULO} se não houver.
+     */
+    private int slotDe(E valor) {
+        for (int slot = cabeca; slot != NULO; slot = proximo[slot]) {
+            if (valor == null ? valores[slot] == null : valor.equals(valores[slot])) return slot;
+        }
+        return NULO;
+    }
+
+    /**
+     * Retorna a referência do primeiro elemento desta lista, ou {@link #NULO} se ela estiver vazia.
+     * @return a referência do primeiro elemento, ou {@link #NULO}
+     */
+    public long primeiraReferencia() {
+        return referencia(cabeca);
+    }
+
+    /**
+     * Retorna a referência do último elemento desta lista, ou {@link #NULO} se ela estiver vazia.
+     * @return a referência do último elemento, ou {@link #NULO}
+     */
+    public long ultimaReferencia() {
+        return referencia(cauda);
+    }
+
+    /**
+     * Retorna a referência do elemento seguinte ao da referência especificada, ou {@link #NULO} no último elemento.
+     * @param referencia a referência de um elemento desta lista
+     * @return a referência do elemento seguinte, ou {@link #NULO}
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public long proximaReferencia(long referencia) {
+        return referencia(proximo[verificarReferencia(referencia)]);
+    }
+
+    /**
+     * Retorna a referência do elemento anterior ao da referência especificada, ou {@link #NULO} no primeiro elemento.
+     * @param referencia a referência de um elemento desta lista
+     * @return a referência do elemento anterior, ou {@link #NULO}
+     * @throws IllegalArgumentException se a referência não corresponder a um elemento desta lista
+     */
+    public long referenciaAnterior(long referencia) {
+        return referencia(anterior[verificarReferencia(referencia)]);
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Indexada está Vazia!");
+        int i = 0;
+        for (int slot = cabeca; slot != NULO; slot = proximo[slot], i++) {
+            if (valor == null ? valores[slot] == null : valor.equals(valores[slot])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Remove todos os elementos desta lista, liberando as referências armazenadas. A capacidade é mantida
+     * e todas as referências deixam de ser válidas.
+     */
+    @Override
+    public void limpar() {
+        Arrays.fill(valores, 0, usados, null);
+        invalidarReferencias(usados);
+        cabeca = NULO;
+        cauda = NULO;
+        livre = NULO;
+        usados = 0;
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        E[] array = (E[]) new Object[tamanho];
+        int i = 0;
+        for (int slot = cabeca; slot != NULO; slot = proximo[slot]) {
+            array[i++] = valores[slot];
+        }
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        inserirTodos(tamanho, outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * A capacidade é ajustada uma única vez e cada elemento é ligado logo após o anterior, sem novas buscas.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        E[] origem = outraLista.paraArray(); // Cópia prévia: a origem pode ser esta própria lista
+        if (origem.length == 0) return;
+        int livres = valores.length - usados;
+        for (int slot = livre; slot != NULO && livres < origem.length; slot = proximo[slot]) livres++;
+        if (livres < origem.length) garantirCapacidade(valores.length + origem.length - livres);
+        int antes = indice == 0 ? NULO : obterSlot(indice - 1);
+        int depois = antes == NULO ? cabeca : proximo[antes];
+        for (E valor : origem) {
+            int slot = alocar(valor);
+            ligar(slot, antes, depois);
+            antes = slot;
+        }
+    }
+
+    /**
+     * Remove todos os elementos que satisfazem o predicado especificado em uma única passada,
+     * desligando cada slot removido em O(1). Se o predicado lançar uma exceção, os elementos ainda
+     * não examinados são mantidos.
+     * @param filtro o predicado que retorna true para os elementos a serem removidos
+     * @return true se algum elemento foi removido
+     */
+    @Override
+    public boolean removerSe(Predicate<? super E> filtro) {
+        Objects.requireNonNull(filtro);
+        int tamanhoOriginal = tamanho;
+        int slot = cabeca;
+        while (slot != NULO) {
+            int seguinte = proximo[slot];
+            if (filtro.test(valores[slot])) desligar(slot);
+            slot = seguinte;
+        }
+        return tamanho != tamanhoOriginal;
+    }
+
+    /**
+     * Reorganiza os slots para que os elementos ocupem as posições [0, tamanho) na sequência da lista,
+     * de modo que percorrê-la passe a acessar os arrays sequencialmente. A lista livre é descartada e
+     * todas as referências deixam de ser válidas.
+     */
+    public void compactar() {
+        regravar(paraArray());
+    }
+
+    /**
+     * Grava os valores especificados nos slots [0, novos.length), encadeados em sequência.
+     */
+    private void regravar(E[] novos) {
+        Arrays.fill(valores, novos.length, usados, null);
+        invalidarReferencias(usados);
+        System.arraycopy(novos, 0, valores, 0, novos.length);
+        for (int i = 0; i < novos.length; i++) {
+            proximo[i] = i + 1;
+            anterior[i] = i - 1;
+        }
+        tamanho = novos.length;
+        usados = tamanho;
+        livre = NULO;
+        cabeca = tamanho == 0 ? NULO : 0;
+        cauda = tamanho - 1;
+        if (tamanho > 0) proximo[cauda] = NULO;
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os elementos são ordenados em um array e regravados em slots contíguos, o que também compacta a lista;
+     * todas as referências deixam de ser válidas.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        E[] ordenados = paraArray();
+        OrdenacaoAdaptativa.ordenar(ordenados, 0, ordenados.length, comparador);
+        regravar(ordenados);
+    }
+
+    /**
+     * Retorna um iterador que segue os encadeamentos {@code proximo} a partir da cabeça.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int atual = cabeca;
+
+            @Override
+            public boolean hasNext() {
+                return atual != NULO;
+            }
+
+            @Override
+            public E next() {
+                if (atual == NULO) throw new NoSuchElementException("Não há mais elementos na lista.");
+                E valor = valores[atual];
+                atual = proximo[atual];
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+        for (int slot = cabeca; slot != NULO; slot = proximo[slot]) {
+            dadosLista.append(valores[slot]);
+            if (proximo[slot] != NULO) {
+                dadosLista.append(" <-> ");
+            }
+        }
+        return dadosLista.append("]").toString();
+    }
+
+}
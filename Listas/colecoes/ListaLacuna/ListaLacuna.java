@@ -0,0 +1,385 @@
+package colecoes.ListaLacuna;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementação de uma lista baseada em array com lacuna (gap buffer), que adere à interface {@link Lista}.
+ * O array guarda os elementos em dois blocos separados por uma lacuna de posições livres. A lacuna é
+ * movida para o ponto de cada inserção ou remoção, de modo que edições agrupadas em torno de um cursor
+ * custam O(1) amortizado: apenas a distância entre uma edição e a anterior é deslocada.
+ * O acesso por índice continua O(1). A lista cresce automaticamente, dobrando a capacidade.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaLacuna<E> implements Lista<E> {
+
+    private static final int CAPACIDADE_PADRAO = 24;
+
+    protected E[] elementos;
+    protected int inicioLacuna;   // Primeira posição livre
+    protected int fimLacuna;      // Primeira posição ocupada após a lacuna
+
+    /**
+     * Constrói uma nova ListaLacuna com a capacidade inicial padrão.
+     */
+    public ListaLacuna() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaLacuna com a capacidade inicial especificada.
+     * @param capacidadeInicial a capacidade inicial da lista
+     * @throws IllegalArgumentException se a capacidade inicial for menor ou igual a zero
+     */
+    @SuppressWarnings("unchecked")
+    public ListaLacuna(int capacidadeInicial) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("A capacidade inicial deve ser positiva.");
+        }
+        elementos = (E[]) new Object[capacidadeInicial];
+        fimLacuna = capacidadeInicial;
+    }
+
+    /**
+     * Retorna o tamanho atual da lacuna.
+     */
+    private int tamanhoLacuna() {
+        return fimLacuna - inicioLacuna;
+    }
+
+    /**
+     * Converte um índice lógico da lista na posição correspondente do array, saltando a lacuna.
+     * @param indice o índice lógico
+     * @return a posição física no array
+     */
+    protected int posicaoFisica(int indice) {
+        return indice < inicioLacuna ? indice : indice + tamanhoLacuna();
+    }
+
+    /**
+     * Move a lacuna para que comece no índice lógico especificado.
+     * Apenas os elementos entre a posição atual e a nova posição da lacuna são deslocados.
+     * @param indice o índice lógico onde a lacuna deve começar
+     */
+    protected void moverLacuna(int indice) {
+        if (indice == inicioLacuna) return;
+        int lacuna = tamanhoLacuna();
+        if (indice < inicioLacuna) {
+            // Os elementos [indice, inicioLacuna) passam para o outro lado da lacuna
+            int quantidade = inicioLacuna - indice;
+            System.arraycopy(elementos, indice, elementos, fimLacuna - quantidade, quantidade);
+            Arrays.fill(elementos, indice, Math.min(indice + lacuna, inicioLacuna), null);
+        } else {
+            // Os elementos logo após a lacuna passam para antes dela
+            int quantidade = indice - inicioLacuna;
+            System.arraycopy(elementos, fimLacuna, elementos, inicioLacuna, quantidade);
+            Arrays.fill(elementos, Math.max(fimLacuna, inicioLacuna + quantidade), fimLacuna + quantidade, null);
+        }
+        inicioLacuna = indice;
+        fimLacuna = indice + lacuna;
+    }
+
+    /**
+     * Garante que a lacuna comporte pelo menos a quantidade de posições especificada, realocando o array se preciso.
+     * @param quantidade o número mínimo de posições livres
+     */
+    @SuppressWarnings("unchecked")
+    protected void garantirLacuna(int quantidade) {
+        if (tamanhoLacuna() >= quantidade) return;
+        int tamanho = tamanho();
+        long necessaria = (long) tamanho + quantidade;
+        if (necessaria > Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Capacidade necessária excede o limite de um array.");
+        int novaCapacidade = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(necessaria, elementos.length * 2L));
+        E[] novo = (E[]) new Object[novaCapacidade];
+        int sufixo = elementos.length - fimLacuna;
+        System.arraycopy(elementos, 0, novo, 0, inicioLacuna);
+        System.arraycopy(elementos, fimLacuna, novo, novaCapacidade - sufixo, sufixo);
+        elementos = novo;
+        fimLacuna = novaCapacidade - sufixo;
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        int tamanho = tamanho();
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (tamanho - 1) + "]");
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista.
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        inserir(tamanho(), valor);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista.
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista, movendo a lacuna até ela.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        if (indice < 0) indice = 0;
+        if (indice > tamanho()) indice = tamanho();
+        garantirLacuna(1);
+        moverLacuna(indice);
+        elementos[inicioLacuna++] = valor;
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista com Lacuna está Vazia!");
+        return removerPorIndice(tamanho() - 1);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista com Lacuna está Vazia!");
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista.
+     * A lacuna é movida até o índice e simplesmente absorve o elemento removido.
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista com Lacuna está Vazia!");
+        verificarIndice(indice);
+        moverLacuna(indice);
+        E valor = elementos[fimLacuna];
+        elementos[fimLacuna++] = null; // Limpa a posição para coleta de lixo
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista.
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista com Lacuna está Vazia!");
+        verificarIndice(indice);
+        return elementos[posicaoFisica(indice)];
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado.
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista com Lacuna está Vazia!");
+        verificarIndice(indice);
+        elementos[posicaoFisica(indice)] = valor;
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista com Lacuna está Vazia!");
+        int tamanho = tamanho();
+        for (int i = 0; i < tamanho; i++) {
+            E atual = elementos[posicaoFisica(i)];
+            if (valor == null ? atual == null : valor.equals(atual)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return elementos.length - tamanhoLacuna();
+    }
+
+    /**
+     * Remove todos os elementos desta lista. O array passa a ser uma única lacuna.
+     */
+    @Override
+    public void limpar() {
+        Arrays.fill(elementos, null);
+        inicioLacuna = 0;
+        fimLacuna = elementos.length;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return tamanho() == 0;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta,
+     * copiando em bloco os trechos antes e depois da lacuna.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        E[] array = (E[]) new Object[tamanho()];
+        System.arraycopy(elementos, 0, array, 0, inicioLacuna);
+        System.arraycopy(elementos, fimLacuna, array, inicioLacuna, elementos.length - fimLacuna);
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        inserirTodos(tamanho(), outraLista);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista.
+     * A lacuna é ampliada uma única vez, movida até o índice e preenchida com uma cópia em bloco.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        if (indice < 0) indice = 0;
+        if (indice > tamanho()) indice = tamanho();
+        E[] origem = outraLista.paraArray();
+        garantirLacuna(origem.length);
+        moverLacuna(indice);
+        System.arraycopy(origem, 0, elementos, inicioLacuna, origem.length);
+        inicioLacuna += origem.length;
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * A lacuna é levada ao final para que os elementos fiquem contíguos e então ordenados no lugar.
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        moverLacuna(tamanho());
+        OrdenacaoAdaptativa.ordenar(elementos, 0, inicioLacuna, comparador);
+    }
+
+    /**
+     * Retorna um iterador sobre os elementos desta lista, na sequência correta.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int atual = 0;
+
+            @Override
+            public boolean hasNext() {
+                return atual < tamanho();
+            }
+
+            @Override
+            public E next() {
+                if (atual >= tamanho()) throw new NoSuchElementException("Não há mais elementos na lista.");
+                return elementos[posicaoFisica(atual++)];
+            }
+        };
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+        int tamanho = tamanho();
+
+        for (int i = 0; i < tamanho; i++) {
+            dadosLista.append(elementos[posicaoFisica(i)]);
+
+            if (i < tamanho - 1) {
+                dadosLista.append(", ");
+            }
+        }
+
+        return dadosLista.append("]").toString();
+    }
+
+}
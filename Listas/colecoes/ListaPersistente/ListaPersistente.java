@@ -0,0 +1,538 @@
+package colecoes.ListaPersistente;
+
+import colecoes.Lista;
+import colecoes.OrdenacaoAdaptativa;
+import excecoes.ListaVaziaExcecao;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementação de uma lista persistente, que adere à interface {@link Lista}.
+ * Os elementos ficam em uma árvore AVL imutável ordenada por posição, em que cada nó conhece o tamanho
+ * da sua subárvore. Uma modificação nunca altera nós existentes: ela copia apenas o caminho da raiz até o
+ * ponto alterado, em O(log n), e compartilha todo o resto com a versão anterior.
+ * <p>
+ * Por isso {@link #instantaneo()} custa O(1): a cópia apenas aponta para a raiz atual, e continua legível e
+ * inalterada enquanto esta lista segue sendo modificada. {@link #dividir(int)} e {@link #concatenar(ListaPersistente)}
+ * também custam O(log n). A raiz é volátil, de modo que um escritor pode publicar novas versões enquanto outras
+ * threads leem instantâneos; escritas concorrentes na mesma lista, porém, precisam de sincronização externa.
+ * @param <E> o tipo de elementos que esta lista irá conter
+ */
+public class ListaPersistente<E> implements Lista<E> {
+
+    /**
+     * Classe interna que representa um nó imutável da árvore. Os nós são compartilhados entre versões.
+     */
+    private static final class No<E> {
+        final E valor;
+        final No<E> esquerda;
+        final No<E> direita;
+        final int altura;
+        final int tamanho;
+
+        No(No<E> esquerda, E valor, No<E> direita) {
+            this.valor = valor;
+            this.esquerda = esquerda;
+            this.direita = direita;
+            this.altura = Math.max(altura(esquerda), altura(direita)) + 1;
+            this.tamanho = tamanho(esquerda) + tamanho(direita) + 1;
+        }
+    }
+
+    /**
+     * Resultado de uma divisão: as árvores com os primeiros elementos e com o restante.
+     */
+    private static final class Divisao<E> {
+        No<E> esquerda;
+        No<E> direita;
+    }
+
+    private volatile No<E> raiz;
+
+    /**
+     * Constrói uma nova ListaPersistente vazia.
+     */
+    public ListaPersistente() {
+    }
+
+    private ListaPersistente(No<E> raiz) {
+        this.raiz = raiz;
+    }
+
+    // ----- Operações sobre a árvore imutável -----
+
+    private static int altura(No<?> no) {
+        return no == null ? 0 : no.altura;
+    }
+
+    private static int tamanho(No<?> no) {
+        return no == null ? 0 : no.tamanho;
+    }
+
+    private static <E> No<E> rotacionarEsquerda(No<E> no) {
+        No<E> direita = no.direita;
+        return new No<>(new No<>(no.esquerda, no.valor, direita.esquerda), direita.valor, direita.direita);
+    }
+
+    private static <E> No<E> rotacionarDireita(No<E> no) {
+        No<E> esquerda = no.esquerda;
+        return new No<>(esquerda.esquerda, esquerda.valor, new No<>(esquerda.direita, no.valor, no.direita));
+    }
+
+    /**
+     * Cria um nó a partir de duas subárvores cujas alturas diferem em no máximo 2, rotacionando se necessário.
+     */
+    private static <E> No<E> balancear(No<E> esquerda, E valor, No<E> direita) {
+        int diferenca = altura(esquerda) - altura(direita);
+        if (diferenca > 1) {
+            if (altura(esquerda.esquerda) < altura(esquerda.direita)) {
+                esquerda = rotacionarEsquerda(esquerda);
+            }
+            return rotacionarDireita(new No<>(esquerda, valor, direita));
+        }
+        if (diferenca < -1) {
+            if (altura(direita.direita) < altura(direita.esquerda)) {
+                direita = rotacionarDireita(direita);
+            }
+            return rotacionarEsquerda(new No<>(esquerda, valor, direita));
+        }
+        return new No<>(esquerda, valor, direita);
+    }
+
+    /**
+     * Junta duas árvores de alturas quaisquer com um valor entre elas, em O(|altura(esquerda) - altura(direita)|).
+     * Desce pela borda da árvore mais alta até encontrar uma subárvore de altura compatível com a outra.
+     */
+    private static <E> No<E> juntar(No<E> esquerda, E valor, No<E> direita) {
+        int alturaEsquerda = altura(esquerda);
+        int alturaDireita = altura(direita);
+        if (alturaEsquerda > alturaDireita + 1) {
+            return balancear(esquerda.esquerda, esquerda.valor, juntar(esquerda.direita, valor, direita));
+        }
+        if (alturaDireita > alturaEsquerda + 1) {
+            return balancear(juntar(esquerda, valor, direita.esquerda), direita.valor, direita.direita);
+        }
+        return new No<>(esquerda, valor, direita);
+    }
+
+    /**
+     * Concatena duas árvores, em O(log n).
+     */
+    private static <E> No<E> concatenar(No<E> esquerda, No<E> direita) {
+        if (esquerda == null) return direita;
+        if (direita == null) return esquerda;
+        if (altura(esquerda) >= altura(direita)) {
+            E ultimo = obter(esquerda, esquerda.tamanho - 1);
+            return juntar(remover(esquerda, esquerda.tamanho - 1), ultimo, direita);
+        }
+        E primeiro = obter(direita, 0);
+        return juntar(esquerda, primeiro, remover(direita, 0));
+    }
+
+    /**
+     * Divide a árvore em duas: os primeiros quantidade elementos e o restante, em O(log n).
+     */
+    private static <E> Divisao<E> dividir(No<E> no, int quantidade) {
+        if (no == null) return new Divisao<>();
+        int tamanhoEsquerda = tamanho(no.esquerda);
+        if (quantidade <= tamanhoEsquerda) {
+            Divisao<E> partes = dividir(no.esquerda, quantidade);
+            partes.direita = juntar(partes.direita, no.valor, no.direita);
+            return partes;
+        }
+        Divisao<E> partes = dividir(no.direita, quantidade - tamanhoEsquerda - 1);
+        partes.esquerda = juntar(no.esquerda, no.valor, partes.esquerda);
+        return partes;
+    }
+
+    private static <E> E obter(No<E> no, int indice) {
+        while (true) {
+            int tamanhoEsquerda = tamanho(no.esquerda);
+            if (indice < tamanhoEsquerda) {
+                no = no.esquerda;
+            } else if (indice > tamanhoEsquerda) {
+                indice -= tamanhoEsquerda + 1;
+                no = no.direita;
+            } else {
+                return no.valor;
+            }
+        }
+    }
+
+    private static <E> No<E> remover(No<E> no, int indice) {
+        int tamanhoEsquerda = tamanho(no.esquerda);
+        if (indice < tamanhoEsquerda) {
+            return juntar(remover(no.esquerda, indice), no.valor, no.direita);
+        }
+        if (indice > tamanhoEsquerda) {
+            return juntar(no.esquerda, no.valor, remover(no.direita, indice - tamanhoEsquerda - 1));
+        }
+        return concatenar(no.esquerda, no.direita);
+    }
+
+    private static <E> No<E> definir(No<E> no, int indice, E valor) {
+        int tamanhoEsquerda = tamanho(no.esquerda);
+        if (indice < tamanhoEsquerda) {
+            return new No<>(definir(no.esquerda, indice, valor), no.valor, no.direita);
+        }
+        if (indice > tamanhoEsquerda) {
+            return new No<>(no.esquerda, no.valor, definir(no.direita, indice - tamanhoEsquerda - 1, valor));
+        }
+        return new No<>(no.esquerda, valor, no.direita);
+    }
+
+    /**
+     * Constrói uma árvore perfeitamente balanceada a partir de um trecho de array, em O(n).
+     */
+    private static <E> No<E> construir(E[] array, int inicio, int fim) {
+        if (inicio >= fim) return null;
+        int meio = (inicio + fim) >>> 1;
+        return new No<>(construir(array, inicio, meio), array[meio], construir(array, meio + 1, fim));
+    }
+
+    private static <E> int preencher(No<E> no, Object[] array, int posicao) {
+        while (no != null) {
+            posicao = preencher(no.esquerda, array, posicao);
+            array[posicao++] = no.valor;
+            no = no.direita;
+        }
+        return posicao;
+    }
+
+    /**
+     * Retorna a raiz da lista especificada sem cópia, se ela também for persistente,
+     * ou uma árvore construída a partir dos seus elementos.
+     */
+    private No<E> arvoreDe(Lista<E> outraLista) {
+        if (outraLista instanceof ListaPersistente) {
+            return ((ListaPersistente<E>) outraLista).raiz;
+        }
+        E[] array = outraLista.paraArray();
+        return construir(array, 0, array.length);
+    }
+
+    // ----- Operações da lista -----
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        int tamanho = tamanho();
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + tamanho);
+    }
+
+    /**
+     * Retorna uma cópia desta lista no estado atual, em O(1). A cópia compartilha todos os nós com esta lista;
+     * modificações posteriores em qualquer uma das duas não afetam a outra.
+     * @return um instantâneo desta lista
+     */
+    public ListaPersistente<E> instantaneo() {
+        return new ListaPersistente<>(raiz);
+    }
+
+    /**
+     * Divide esta lista na posição especificada, em O(log n): esta lista fica com os elementos antes do índice
+     * e os elementos a partir do índice são devolvidos em uma nova lista.
+     * @param indice a posição do primeiro elemento que irá para a nova lista
+     * @return uma nova lista com os elementos a partir do índice especificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice > tamanho())
+     */
+    public ListaPersistente<E> dividir(int indice) {
+        No<E> atual = raiz;
+        if (indice < 0 || indice > tamanho(atual)) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + tamanho(atual));
+        Divisao<E> partes = dividir(atual, indice);
+        raiz = partes.esquerda;
+        return new ListaPersistente<>(partes.direita);
+    }
+
+    /**
+     * Acrescenta os elementos da lista especificada ao final desta lista, em O(log n).
+     * Os nós da outra lista são compartilhados, e ela permanece inalterada.
+     * @param outraLista a lista cujos elementos devem ser acrescentados a esta lista
+     */
+    public void concatenar(ListaPersistente<E> outraLista) {
+        raiz = concatenar(raiz, outraLista.raiz);
+    }
+
+    /**
+     * Adiciona o elemento especificado ao final desta lista, em O(log n).
+     * @param valor o elemento a ser adicionado
+     */
+    @Override
+    public void adicionar(E valor) {
+        raiz = juntar(raiz, valor, null);
+    }
+
+    /**
+     * Insere o elemento especificado no início desta lista, em O(log n).
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(E valor) {
+        raiz = juntar(null, valor, raiz);
+    }
+
+    /**
+     * Insere o elemento especificado na posição especificada nesta lista, em O(log n).
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o elemento especificado deve ser inserido
+     * @param valor o elemento a ser inserido
+     */
+    @Override
+    public void inserir(int indice, E valor) {
+        No<E> atual = raiz;
+        indice = Math.max(0, Math.min(indice, tamanho(atual)));
+        Divisao<E> partes = dividir(atual, indice);
+        raiz = juntar(partes.esquerda, valor, partes.direita);
+    }
+
+    /**
+     * Remove e retorna o último elemento desta lista.
+     * @return o último elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Persistente está Vazia!");
+        return removerPorIndice(tamanho() - 1);
+    }
+
+    /**
+     * Remove e retorna o primeiro elemento desta lista.
+     * @return o primeiro elemento desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public E removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Persistente está Vazia!");
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o elemento na posição especificada nesta lista, em O(log n).
+     * @param indice o índice do elemento a ser removido
+     * @return o elemento que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Persistente está Vazia!");
+        verificarIndice(indice);
+        No<E> atual = raiz;
+        E valor = obter(atual, indice);
+        raiz = remover(atual, indice);
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do elemento especificado desta lista, se estiver presente.
+     * @param valor o elemento a ser removido desta lista, se presente
+     * @return true se esta lista continha o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean remover(E valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            raiz = remover(raiz, indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o elemento na posição especificada nesta lista, em O(log n).
+     * @param indice o índice do elemento a ser retornado
+     * @return o elemento na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public E obter(int indice) throws ListaVaziaExcecao {
+        No<E> atual = raiz;
+        if (atual == null) throw new ListaVaziaExcecao("Lista Persistente está Vazia!");
+        if (indice < 0 || indice >= atual.tamanho) throw new IndexOutOfBoundsException("Índice fora dos limites: " + indice + ", Tamanho: " + atual.tamanho);
+        return obter(atual, indice);
+    }
+
+    /**
+     * Substitui o elemento na posição especificada nesta lista pelo elemento especificado, em O(log n).
+     * @param indice o índice do elemento a ser substituído
+     * @param valor o elemento a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    @Override
+    public void definir(int indice, E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Persistente está Vazia!");
+        verificarIndice(indice);
+        raiz = definir(raiz, indice, valor);
+    }
+
+    /**
+     * Retorna true se esta lista contiver o elemento especificado.
+     * @param valor o elemento cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o elemento especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public boolean contem(E valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do elemento especificado nesta lista,
+     * ou -1 se esta lista não contiver o elemento.
+     * @param valor o elemento a ser pesquisado
+     * @return o índice da primeira ocorrência do elemento especificado nesta lista,
+     *         ou -1 se esta lista não contiver o elemento
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    @Override
+    public int indiceDe(E valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista Persistente está Vazia!");
+        int indice = 0;
+        for (E elemento : this) {
+            if (valor == null ? elemento == null : valor.equals(elemento)) return indice;
+            indice++;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    @Override
+    public int tamanho() {
+        return tamanho(raiz);
+    }
+
+    /**
+     * Remove todos os elementos desta lista. Instantâneos tirados antes continuam com os seus elementos.
+     */
+    @Override
+    public void limpar() {
+        raiz = null;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    @Override
+    public boolean estaVazia() {
+        return raiz == null;
+    }
+
+    /**
+     * Retorna um array contendo todos os elementos desta lista na sequência correta.
+     * @return um array contendo todos os elementos desta lista na sequência correta
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] paraArray() {
+        No<E> atual = raiz;
+        E[] array = (E[]) new Object[tamanho(atual)];
+        preencher(atual, array, 0);
+        return array;
+    }
+
+    /**
+     * Adiciona todos os elementos da lista especificada ao final desta lista.
+     * Se a outra lista também for persistente, os seus nós são compartilhados e a operação custa O(log n);
+     * caso contrário, os elementos formam uma árvore balanceada em O(m), concatenada em O(log n).
+     * @param outraLista a lista cujos elementos devem ser adicionados a esta lista
+     */
+    @Override
+    public void adicionarTodos(Lista<E> outraLista) {
+        No<E> outra = arvoreDe(outraLista);
+        raiz = concatenar(raiz, outra);
+    }
+
+    /**
+     * Insere todos os elementos da lista especificada na posição especificada nesta lista, dividindo esta lista
+     * e concatenando as três partes. Custa O(log n) se a outra lista também for persistente.
+     * @param indice o índice no qual o primeiro elemento da lista especificada deve ser inserido
+     * @param outraLista a lista cujos elementos devem ser inseridos nesta lista
+     */
+    @Override
+    public void inserirTodos(int indice, Lista<E> outraLista) {
+        No<E> outra = arvoreDe(outraLista);
+        No<E> atual = raiz;
+        indice = Math.max(0, Math.min(indice, tamanho(atual)));
+        Divisao<E> partes = dividir(atual, indice);
+        raiz = concatenar(concatenar(partes.esquerda, outra), partes.direita);
+    }
+
+    /**
+     * Ordena esta lista de acordo com o ordem induzida pelo comparador especificado.
+     * Os elementos são ordenados em um array e uma nova árvore balanceada é construída em O(n).
+     * @param comparador o {@code Comparator} usado para comparar elementos da lista
+     */
+    @Override
+    public void ordenar(Comparator<E> comparador) {
+        E[] array = paraArray();
+        OrdenacaoAdaptativa.ordenar(array, 0, array.length, comparador);
+        raiz = construir(array, 0, array.length);
+    }
+
+    /**
+     * Retorna um iterador sobre a versão atual desta lista. Como os nós são imutáveis, o iterador não é
+     * afetado por modificações feitas depois da sua criação.
+     * @return um iterador sobre os elementos desta lista
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final ArrayDeque<No<E>> pilha = new ArrayDeque<>();
+            {
+                empilharEsquerda(raiz);
+            }
+
+            private void empilharEsquerda(No<E> no) {
+                while (no != null) {
+                    pilha.push(no);
+                    no = no.esquerda;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !pilha.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pilha.isEmpty()) throw new NoSuchElementException("Não há mais elementos na lista.");
+                No<E> no = pilha.pop();
+                empilharEsquerda(no.direita);
+                return no.valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+        Iterator<E> iterador = iterator();
+        while (iterador.hasNext()) {
+            dadosLista.append(iterador.next());
+            if (iterador.hasNext()) {
+                dadosLista.append(", ");
+            }
+        }
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -0,0 +1,277 @@
+package colecoes.ListaPrimitiva;
+
+import colecoes.ArquivoLista;
+import excecoes.ListaVaziaExcecao;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Lista dinâmica especializada em valores {@code double}, armazenados diretamente em um {@code double[]}.
+ * Oferece as mesmas operações de {@link colecoes.Lista}, mas sem empacotamento: cada elemento ocupa
+ * 8 bytes e as adições não alocam objetos (exceto quando o array precisa crescer).
+ */
+public class ListaDouble extends ListaPrimitivaAbstrata {
+
+    protected double[] elementos;
+
+    /**
+     * Constrói uma nova ListaDouble com a capacidade inicial padrão.
+     */
+    public ListaDouble() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Constrói uma nova ListaDouble com a capacidade inicial especificada.
+     * @param capacidadeInicial a capacidade inicial da lista
+     * @throws IllegalArgumentException se a capacidade inicial for menor ou igual a zero
+     */
+    public ListaDouble(int capacidadeInicial) {
+        elementos = new double[validarCapacidade(capacidadeInicial)];
+    }
+
+    /**
+     * Garante que o array subjacente comporte pelo menos a quantidade de elementos especificada.
+     * @param capacidadeNecessaria a capacidade mínima desejada
+     */
+    protected void garantirCapacidade(int capacidadeNecessaria) {
+        if (capacidadeNecessaria > elementos.length) {
+            elementos = Arrays.copyOf(elementos, novaCapacidade(elementos.length, capacidadeNecessaria));
+        }
+    }
+
+    /**
+     * Adiciona o valor especificado ao final desta lista.
+     * @param valor o valor a ser adicionado
+     */
+    public void adicionar(double valor) {
+        if (tamanho == elementos.length) garantirCapacidade(tamanho + 1);
+        elementos[tamanho++] = valor;
+    }
+
+    /**
+     * Insere o valor especificado no início desta lista.
+     * @param valor o valor a ser inserido
+     */
+    public void inserir(double valor) {
+        inserir(0, valor);
+    }
+
+    /**
+     * Insere o valor especificado na posição especificada nesta lista.
+     * Índices menores ou iguais a zero inserem no início e índices maiores ou iguais ao tamanho inserem no final.
+     * @param indice o índice no qual o valor especificado deve ser inserido
+     * @param valor o valor a ser inserido
+     */
+    public void inserir(int indice, double valor) {
+        if (indice < 0) indice = 0;
+        if (indice > tamanho) indice = tamanho;
+        if (tamanho == elementos.length) garantirCapacidade(tamanho + 1);
+        System.arraycopy(elementos, indice, elementos, indice + 1, tamanho - indice);
+        elementos[indice] = valor;
+        tamanho++;
+    }
+
+    /**
+     * Remove e retorna o último valor desta lista.
+     * @return o último valor desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    public double removerUltimo() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Doubles está Vazia!");
+        return elementos[--tamanho];
+    }
+
+    /**
+     * Remove e retorna o primeiro valor desta lista.
+     * @return o primeiro valor desta lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    public double removerPrimeiro() throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Doubles está Vazia!");
+        return removerPorIndice(0);
+    }
+
+    /**
+     * Remove e retorna o valor na posição especificada nesta lista.
+     * Desloca quaisquer valores subsequentes para a esquerda.
+     * @param indice o índice do valor a ser removido
+     * @return o valor que foi removido da lista
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    public double removerPorIndice(int indice) throws ListaVaziaExcecao, IndexOutOfBoundsException {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Doubles está Vazia!");
+        verificarIndice(indice);
+        double valor = elementos[indice];
+        tamanho--;
+        System.arraycopy(elementos, indice + 1, elementos, indice, tamanho - indice);
+        return valor;
+    }
+
+    /**
+     * Remove a primeira ocorrência do valor especificado desta lista, se estiver presente.
+     * @param valor o valor a ser removido desta lista, se presente
+     * @return true se esta lista continha o valor especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    public boolean remover(double valor) throws ListaVaziaExcecao {
+        int indice = indiceDe(valor);
+        if (indice != -1) {
+            removerPorIndice(indice);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o valor na posição especificada nesta lista.
+     * @param indice o índice do valor a ser retornado
+     * @return o valor na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    public double obter(int indice) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Doubles está Vazia!");
+        verificarIndice(indice);
+        return elementos[indice];
+    }
+
+    /**
+     * Substitui o valor na posição especificada nesta lista pelo valor especificado.
+     * @param indice o índice do valor a ser substituído
+     * @param valor o valor a ser armazenado na posição especificada
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    public void definir(int indice, double valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Doubles está Vazia!");
+        verificarIndice(indice);
+        elementos[indice] = valor;
+    }
+
+    /**
+     * Retorna true se esta lista contiver o valor especificado.
+     * @param valor o valor cuja presença nesta lista deve ser testada
+     * @return true se esta lista contiver o valor especificado
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    public boolean contem(double valor) throws ListaVaziaExcecao {
+        return indiceDe(valor) != -1;
+    }
+
+    /**
+     * Retorna o índice da primeira ocorrência do valor especificado nesta lista,
+     * ou -1 se esta lista não contiver o valor.
+     * @param valor o valor a ser pesquisado
+     * @return o índice da primeira ocorrência do valor especificado, ou -1 se não houver
+     * @throws ListaVaziaExcecao se esta lista estiver vazia
+     */
+    public int indiceDe(double valor) throws ListaVaziaExcecao {
+        if (estaVazia()) throw new ListaVaziaExcecao("Lista de Doubles está Vazia!");
+        // Compara pelos bits, como Double.equals: NaN é encontrado e 0.0 difere de -0.0
+        long bits = Double.doubleToLongBits(valor);
+        for (int i = 0; i < tamanho; i++) {
+            if (Double.doubleToLongBits(elementos[i]) == bits) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna um novo array contendo todos os valores desta lista na sequência correta.
+     * @return um {@code double[]} com os valores desta lista
+     */
+    public double[] paraArray() {
+        return Arrays.copyOf(elementos, tamanho);
+    }
+
+    /**
+     * Adiciona todos os valores da lista especificada ao final desta lista, com uma única cópia em bloco.
+     * @param outraLista a lista cujos valores devem ser adicionados a esta lista
+     */
+    public void adicionarTodos(ListaDouble outraLista) {
+        int quantidade = outraLista.tamanho;
+        garantirCapacidade(tamanho + quantidade);
+        System.arraycopy(outraLista.elementos, 0, elementos, tamanho, quantidade);
+        tamanho += quantidade;
+    }
+
+    /**
+     * Ordena esta lista em ordem crescente, na mesma ordem total de {@link Double#compare(double, double)}.
+     */
+    public void ordenar() {
+        Arrays.sort(elementos, 0, tamanho);
+    }
+
+    /**
+     * Salva os valores desta lista em um arquivo no formato de {@link ArquivoLista}, com uma cópia em bloco
+     * para a memória mapeada do arquivo.
+     * @param caminho o arquivo de destino, substituído se existir
+     * @throws IOException se ocorrer um erro de entrada e saída
+     */
+    public void salvar(Path caminho) throws IOException {
+        ArquivoLista.salvar(caminho, ArquivoLista.TIPO_DOUBLE, Double.BYTES, tamanho,
+                (buffer, primeiro, quantidade) -> buffer.asDoubleBuffer().put(elementos, (int) primeiro, quantidade));
+    }
+
+    /**
+     * Carrega uma lista salva com {@link #salvar(Path)}, sem verificar o checksum.
+     * @param caminho o arquivo a ser carregado
+     * @return uma nova lista com os valores do arquivo
+     * @throws IOException se ocorrer um erro de entrada e saída ou se o arquivo não contiver uma ListaDouble
+     */
+    public static ListaDouble carregar(Path caminho) throws IOException {
+        return carregar(caminho, false);
+    }
+
+    /**
+     * Carrega uma lista salva com {@link #salvar(Path)}. O arquivo é mapeado e copiado em bloco para o array,
+     * convertendo a ordem de bytes se ele tiver sido salvo em outra plataforma.
+     * @param caminho o arquivo a ser carregado
+     * @param verificarChecksum se o checksum dos dados deve ser conferido antes da carga
+     * @return uma nova lista com os valores do arquivo
+     * @throws IOException se ocorrer um erro de entrada e saída, se o arquivo não contiver uma ListaDouble
+     *         ou se o checksum não conferir
+     */
+    public static ListaDouble carregar(Path caminho, boolean verificarChecksum) throws IOException {
+        ArquivoLista arquivo = ArquivoLista.abrir(caminho, ArquivoLista.TIPO_DOUBLE, Double.BYTES);
+        if (arquivo.tamanho() > CAPACIDADE_MAXIMA) throw new IOException("O arquivo excede o limite de um array.");
+        if (verificarChecksum) arquivo.verificarChecksum();
+        int tamanho = (int) arquivo.tamanho();
+        ListaDouble lista = new ListaDouble(Math.max(tamanho, CAPACIDADE_PADRAO));
+        arquivo.lerTrechos((buffer, primeiro, quantidade) -> buffer.asDoubleBuffer().get(lista.elementos, (int) primeiro, quantidade));
+        lista.tamanho = tamanho;
+        return lista;
+    }
+
+    /**
+     * Retorna o número de valores que o array subjacente comporta sem ser realocado.
+     * @return a capacidade atual da lista
+     */
+    @Override
+    public int capacidade() {
+        return elementos.length;
+    }
+
+    /**
+     * Retorna uma representação em string desta lista.
+     * @return uma representação em string desta lista
+     */
+    @Override
+    public String toString() {
+        StringBuilder dadosLista = new StringBuilder("[");
+
+        for (int i = 0; i < tamanho; i++) {
+            dadosLista.append(elementos[i]);
+
+            if (i < tamanho - 1) {
+                dadosLista.append(", ");
+            }
+        }
+
+        return dadosLista.append("]").toString();
+    }
+
+}
@@ -0,0 +1,95 @@
+package colecoes.ListaPrimitiva;
+
+/**
+ * Classe abstrata que serve como base para as listas especializadas em tipos primitivos.
+ * Essas listas armazenam os valores diretamente em arrays primitivos ({@code int[]}, {@code long[]}, {@code double[]}),
+ * evitando o custo de memória e de indireção dos objetos empacotados ({@code Integer}, {@code Long}, {@code Double}).
+ * O array subjacente cresce automaticamente, dobrando de tamanho, como em {@code ListaDinamica}.
+ */
+public abstract class ListaPrimitivaAbstrata {
+
+    /**
+     * Capacidade inicial usada quando nenhuma é informada.
+     */
+    protected static final int CAPACIDADE_PADRAO = 24;
+
+    /**
+     * Maior capacidade que pode ser alocada com segurança para um array.
+     */
+    protected static final int CAPACIDADE_MAXIMA = Integer.MAX_VALUE - 8;
+
+    /**
+     * A partir deste tamanho as listas de inteiros e de longos são ordenadas por radix em vez de comparações.
+     */
+    protected static final int LIMIAR_RADIX = 1 << 12;
+
+    protected int tamanho;
+
+    /**
+     * Valida a capacidade inicial informada ao construtor.
+     * @param capacidadeInicial a capacidade inicial da lista
+     * @return a própria capacidade, se for válida
+     * @throws IllegalArgumentException se a capacidade for menor ou igual a zero
+     */
+    protected static int validarCapacidade(int capacidadeInicial) {
+        if (capacidadeInicial <= 0) {
+            throw new IllegalArgumentException("A capacidade inicial deve ser positiva.");
+        }
+        return capacidadeInicial;
+    }
+
+    /**
+     * Calcula a nova capacidade do array subjacente: o dobro da atual ou o necessário, o que for maior.
+     * @param capacidadeAtual a capacidade atual do array
+     * @param capacidadeNecessaria a capacidade mínima exigida
+     * @return a nova capacidade
+     * @throws OutOfMemoryError se a capacidade necessária exceder o limite de um array
+     */
+    protected static int novaCapacidade(int capacidadeAtual, int capacidadeNecessaria) {
+        if (capacidadeNecessaria < 0 || capacidadeNecessaria > CAPACIDADE_MAXIMA) {
+            throw new OutOfMemoryError("Capacidade necessária excede o limite de um array.");
+        }
+        long dobro = (long) capacidadeAtual * 2;
+        return (int) Math.min(CAPACIDADE_MAXIMA, Math.max(dobro, capacidadeNecessaria));
+    }
+
+    /**
+     * Verifica se o índice fornecido está dentro dos limites válidos da lista.
+     * @param indice o índice a ser verificado
+     * @throws IndexOutOfBoundsException se o índice estiver fora do intervalo (indice < 0 || indice >= tamanho())
+     */
+    protected void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanho) throw new IndexOutOfBoundsException("Os índices disponíveis são [0 ~ " + (tamanho - 1) + "]");
+    }
+
+    /**
+     * Retorna o número de elementos nesta lista.
+     * @return o número de elementos nesta lista
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna true se esta lista não contiver elementos.
+     * @return true se esta lista não contiver elementos
+     */
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Remove todos os elementos desta lista.
+     * Como os valores são primitivos, não há referências a liberar: basta redefinir o tamanho.
+     */
+    public void limpar() {
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna o número de elementos que o array subjacente comporta sem ser realocado.
+     * @return a capacidade atual da lista
+     */
+    public abstract int capacidade();
+
+}
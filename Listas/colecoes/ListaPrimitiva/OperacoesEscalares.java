@@ -0,0 +1,87 @@
+package colecoes.ListaPrimitiva;
+
+/**
+ * Implementação escalar de {@link OperacoesVetoriais}, usada quando a Vector API não está disponível.
+ * Também serve de laço final das varreduras vetoriais, para as posições que não completam um vetor.
+ */
+class OperacoesEscalares implements OperacoesVetoriais {
+
+    static int indiceDe(int[] array, int inicio, int fim, int valor) {
+        for (int i = inicio; i < fim; i++) {
+            if (array[i] == valor) return i;
+        }
+        return -1;
+    }
+
+    static int indiceDe(long[] array, int inicio, int fim, long valor) {
+        for (int i = inicio; i < fim; i++) {
+            if (array[i] == valor) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int indiceDe(int[] array, int tamanho, int valor) {
+        return indiceDe(array, 0, tamanho, valor);
+    }
+
+    @Override
+    public int minimo(int[] array, int tamanho) {
+        int minimo = Integer.MAX_VALUE;
+        for (int i = 0; i < tamanho; i++) {
+            minimo = Math.min(minimo, array[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public int maximo(int[] array, int tamanho) {
+        int maximo = Integer.MIN_VALUE;
+        for (int i = 0; i < tamanho; i++) {
+            maximo = Math.max(maximo, array[i]);
+        }
+        return maximo;
+    }
+
+    @Override
+    public long soma(int[] array, int tamanho) {
+        long soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += array[i];
+        }
+        return soma;
+    }
+
+    @Override
+    public int indiceDe(long[] array, int tamanho, long valor) {
+        return indiceDe(array, 0, tamanho, valor);
+    }
+
+    @Override
+    public long minimo(long[] array, int tamanho) {
+        long minimo = Long.MAX_VALUE;
+        for (int i = 0; i < tamanho; i++) {
+            minimo = Math.min(minimo, array[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public long maximo(long[] array, int tamanho) {
+        long maximo = Long.MIN_VALUE;
+        for (int i = 0; i < tamanho; i++) {
+            maximo = Math.max(maximo, array[i]);
+        }
+        return maximo;
+    }
+
+    @Override
+    public long soma(long[] array, int tamanho) {
+        long soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += array[i];
+        }
+        return soma;
+    }
+
+}
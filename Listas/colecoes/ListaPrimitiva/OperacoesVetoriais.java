@@ -0,0 +1,60 @@
+package colecoes.ListaPrimitiva;
+
+/**
+ * Varreduras em bloco sobre os arrays das listas primitivas: busca, mínimo, máximo e soma.
+ * <p>
+ * Há duas implementações: {@link OperacoesEscalares}, com laços simples, e {@code OperacoesSimd}, que usa a
+ * Vector API ({@code jdk.incubator.vector}) para processar várias posições por instrução. Como o módulo ainda
+ * é incubado, {@code OperacoesSimd} fica na raiz de código opcional {@code Listas/vetorial}, fora da árvore
+ * padrão, que compila sem nenhuma opção extra. A implementação vetorial é carregada por reflexão na primeira
+ * utilização; se a classe não estiver no classpath, se o módulo não estiver presente em tempo de execução
+ * (a JVM precisa ser iniciada com {@code --add-modules jdk.incubator.vector}), ou se a propriedade de sistema
+ * {@code colecoes.vetorial} for {@code false}, as listas usam a implementação escalar.
+ * Todas as operações consideram apenas as posições [0, tamanho) do array.
+ */
+interface OperacoesVetoriais {
+
+    /**
+     * A implementação escolhida para esta JVM.
+     */
+    OperacoesVetoriais INSTANCIA = carregar();
+
+    int indiceDe(int[] array, int tamanho, int valor);
+
+    int minimo(int[] array, int tamanho);
+
+    int maximo(int[] array, int tamanho);
+
+    /**
+     * Soma os valores em um {@code long}, de modo que listas de inteiros não transbordem na prática.
+     */
+    long soma(int[] array, int tamanho);
+
+    int indiceDe(long[] array, int tamanho, long valor);
+
+    long minimo(long[] array, int tamanho);
+
+    long maximo(long[] array, int tamanho);
+
+    /**
+     * Soma os valores com a aritmética de {@code long}, que dá a volta em caso de transbordamento.
+     */
+    long soma(long[] array, int tamanho);
+
+    /**
+     * Retorna a implementação vetorial, se o módulo da Vector API estiver disponível, ou a escalar.
+     */
+    private static OperacoesVetoriais carregar() {
+        if (!Boolean.parseBoolean(System.getProperty("colecoes.vetorial", "true"))) {
+            return new OperacoesEscalares();
+        }
+        try {
+            Class<?> classe = Class.forName("colecoes.ListaPrimitiva.OperacoesSimd");
+            return (OperacoesVetoriais) classe.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // A raiz vetorial não foi compilada ou o módulo jdk.incubator.vector não foi adicionado a esta JVM
+            return new OperacoesEscalares();
+        }
+    }
+
+}
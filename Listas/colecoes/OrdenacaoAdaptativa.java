@@ -0,0 +1,554 @@
+package colecoes;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordenação por intercalação adaptativa e estável, no estilo do TimSort, para arrays de objetos.
+ * O array é percorrido em busca de corridas (trechos já ordenados, crescentes ou estritamente decrescentes);
+ * corridas curtas são estendidas por inserção binária e as corridas são intercaladas mantendo as
+ * invariantes de tamanho da pilha. Antes de cada intercalação é feita uma busca galopante que descarta
+ * os trechos que já estão no lugar, de modo que entradas quase ordenadas custam próximo de O(n).
+ * No pior caso a ordenação é O(n log n) e usa no máximo n/2 posições auxiliares.
+ * Também oferece uma versão paralela que divide o trabalho em um {@link ForkJoinPool}.
+ */
+public final class OrdenacaoAdaptativa {
+
+    /**
+     * Abaixo deste tamanho o trecho é ordenado apenas por inserção binária.
+     */
+    private static final int CORRIDA_MINIMA = 32;
+
+    /**
+     * Número de vitórias consecutivas de uma mesma corrida que ativa o modo galopante na intercalação.
+     */
+    private static final int LIMIAR_GALOPE = 7;
+
+    /**
+     * Abaixo deste número de elementos a ordenação paralela recorre à versão sequencial,
+     * pois o custo de coordenar as tarefas supera o ganho.
+     */
+    public static final int LIMIAR_PARALELO = 1 << 13;
+
+    private OrdenacaoAdaptativa() {
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) do array especificado de acordo com o comparador.
+     * A ordenação é estável: elementos equivalentes mantêm sua ordem relativa.
+     * @param array o array a ser ordenado
+     * @param inicio o índice do primeiro elemento (inclusivo)
+     * @param fim o índice do último elemento (exclusivo)
+     * @param comparador o {@code Comparator} usado para comparar os elementos
+     * @param <E> o tipo dos elementos do array
+     */
+    public static <E> void ordenar(E[] array, int inicio, int fim, Comparator<? super E> comparador) {
+        int restante = fim - inicio;
+        if (restante < 2) return;
+
+        if (restante < CORRIDA_MINIMA) {
+            int corrida = contarCorrida(array, inicio, fim, comparador);
+            insercaoBinaria(array, inicio, fim, inicio + corrida, comparador);
+            return;
+        }
+
+        PilhaCorridas<E> pilha = new PilhaCorridas<>(array, comparador);
+        int minimo = calcularCorridaMinima(restante);
+        int atual = inicio;
+        do {
+            int corrida = contarCorrida(array, atual, fim, comparador);
+            if (corrida < minimo) {
+                // Estende a corrida curta até o tamanho mínimo usando inserção binária
+                int forcada = Math.min(restante, minimo);
+                insercaoBinaria(array, atual, atual + forcada, atual + corrida, comparador);
+                corrida = forcada;
+            }
+            pilha.empilhar(atual, corrida);
+            pilha.intercalarColapso();
+            atual += corrida;
+            restante -= corrida;
+        } while (restante != 0);
+        pilha.intercalarTudo();
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) do array usando todos os núcleos do {@link ForkJoinPool#commonPool()}.
+     * O trecho é dividido em pedaços ordenados sequencialmente em paralelo, que depois são intercalados
+     * também em paralelo. A ordenação continua estável. Trechos com até {@link #LIMIAR_PARALELO} elementos,
+     * ou um pool sem paralelismo, usam diretamente {@link #ordenar(Object[], int, int, Comparator)}.
+     * @param array o array a ser ordenado
+     * @param inicio o índice do primeiro elemento (inclusivo)
+     * @param fim o índice do último elemento (exclusivo)
+     * @param comparador o {@code Comparator} usado para comparar os elementos
+     * @param <E> o tipo dos elementos do array
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void ordenarParalelo(E[] array, int inicio, int fim, Comparator<? super E> comparador) {
+        int tamanho = fim - inicio;
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int paralelismo = pool.getParallelism();
+        if (tamanho <= LIMIAR_PARALELO || paralelismo <= 1) {
+            ordenar(array, inicio, fim, comparador);
+            return;
+        }
+        // Cerca de quatro pedaços por thread equilibram a carga sem tarefas pequenas demais
+        int granularidade = Math.max(LIMIAR_PARALELO, tamanho / (paralelismo << 2));
+        E[] auxiliar = (E[]) new Object[tamanho];
+        pool.invoke(new TarefaOrdenacao<>(array, auxiliar, inicio, inicio, fim, granularidade, comparador));
+    }
+
+    /**
+     * Calcula o tamanho mínimo de corrida para n elementos, de modo que n / minimo seja
+     * uma potência de dois ou ligeiramente menor, equilibrando as intercalações finais.
+     * @param n o número de elementos a ordenar
+     * @return o tamanho mínimo de corrida
+     */
+    private static int calcularCorridaMinima(int n) {
+        int resto = 0;
+        while (n >= CORRIDA_MINIMA) {
+            resto |= (n & 1);
+            n >>= 1;
+        }
+        return n + resto;
+    }
+
+    /**
+     * Retorna o tamanho da corrida que começa em inicio. Corridas estritamente decrescentes
+     * são invertidas no lugar (a exigência estrita preserva a estabilidade).
+     * @return o tamanho da corrida encontrada
+     */
+    private static <E> int contarCorrida(E[] array, int inicio, int fim, Comparator<? super E> comparador) {
+        int atual = inicio + 1;
+        if (atual == fim) return 1;
+
+        if (comparador.compare(array[atual++], array[inicio]) < 0) {
+            while (atual < fim && comparador.compare(array[atual], array[atual - 1]) < 0) atual++;
+            inverter(array, inicio, atual);
+        } else {
+            while (atual < fim && comparador.compare(array[atual], array[atual - 1]) >= 0) atual++;
+        }
+        return atual - inicio;
+    }
+
+    /**
+     * Inverte o trecho [inicio, fim) do array.
+     */
+    private static void inverter(Object[] array, int inicio, int fim) {
+        fim--;
+        while (inicio < fim) {
+            Object temp = array[inicio];
+            array[inicio++] = array[fim];
+            array[fim--] = temp;
+        }
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) por inserção binária, sabendo que [inicio, ordenadoAte) já está ordenado.
+     */
+    private static <E> void insercaoBinaria(E[] array, int inicio, int fim, int ordenadoAte, Comparator<? super E> comparador) {
+        for (int i = ordenadoAte; i < fim; i++) {
+            E pivo = array[i];
+            int baixo = inicio;
+            int alto = i;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (comparador.compare(pivo, array[meio]) < 0) {
+                    alto = meio;
+                } else {
+                    baixo = meio + 1; // Iguais ficam à esquerda do pivô, mantendo a estabilidade
+                }
+            }
+            System.arraycopy(array, baixo, array, baixo + 1, i - baixo);
+            array[baixo] = pivo;
+        }
+    }
+
+    /**
+     * Busca galopante (exponencial seguida de binária) no trecho [base, base + tamanho) ordenado.
+     * Com incluirIguais = true retorna quantos elementos são menores ou iguais à chave;
+     * caso contrário, retorna quantos elementos são estritamente menores que a chave.
+     * O custo é O(log k), onde k é a posição encontrada.
+     */
+    private static <E> int galopar(E chave, E[] array, int base, int tamanho, boolean incluirIguais,
+                                   Comparator<? super E> comparador) {
+        int baixo = 0;
+        int alto = 0;
+        int passo = 1;
+        while (alto < tamanho && antecede(chave, array[base + alto], incluirIguais, comparador)) {
+            baixo = alto + 1;
+            alto += passo;
+            passo <<= 1;
+        }
+        if (alto > tamanho) alto = tamanho;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (antecede(chave, array[base + meio], incluirIguais, comparador)) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    /**
+     * Indica se o elemento deve ficar antes da chave na ordem final.
+     */
+    private static <E> boolean antecede(E chave, E elemento, boolean incluirIguais, Comparator<? super E> comparador) {
+        int comparacao = comparador.compare(chave, elemento);
+        return incluirIguais ? comparacao >= 0 : comparacao > 0;
+    }
+
+    /**
+     * Pilha de corridas pendentes de intercalação, com o buffer auxiliar reaproveitado entre intercalações.
+     */
+    private static final class PilhaCorridas<E> {
+        private final E[] array;
+        private final Comparator<? super E> comparador;
+        private final int[] bases = new int[49]; // Suficiente para qualquer int graças às invariantes
+        private final int[] tamanhos = new int[49];
+        private int quantidade;
+        private E[] auxiliar;
+
+        @SuppressWarnings("unchecked")
+        PilhaCorridas(E[] array, Comparator<? super E> comparador) {
+            this.array = array;
+            this.comparador = comparador;
+            this.auxiliar = (E[]) new Object[CORRIDA_MINIMA];
+        }
+
+        void empilhar(int base, int tamanho) {
+            bases[quantidade] = base;
+            tamanhos[quantidade] = tamanho;
+            quantidade++;
+        }
+
+        /**
+         * Intercala corridas até que as invariantes valham para o topo da pilha:
+         * tamanhos[i-2] > tamanhos[i-1] + tamanhos[i] e tamanhos[i-1] > tamanhos[i].
+         */
+        void intercalarColapso() {
+            while (quantidade > 1) {
+                int n = quantidade - 2;
+                if (n > 0 && tamanhos[n - 1] <= tamanhos[n] + tamanhos[n + 1]
+                        || n > 1 && tamanhos[n - 2] <= tamanhos[n] + tamanhos[n - 1]) {
+                    if (tamanhos[n - 1] < tamanhos[n + 1]) n--;
+                } else if (tamanhos[n] > tamanhos[n + 1]) {
+                    break;
+                }
+                intercalarEm(n);
+            }
+        }
+
+        /**
+         * Intercala todas as corridas restantes ao final da ordenação.
+         */
+        void intercalarTudo() {
+            while (quantidade > 1) {
+                int n = quantidade - 2;
+                if (n > 0 && tamanhos[n - 1] < tamanhos[n + 1]) n--;
+                intercalarEm(n);
+            }
+        }
+
+        /**
+         * Intercala as corridas nas posições i e i+1 da pilha.
+         */
+        private void intercalarEm(int i) {
+            int base1 = bases[i];
+            int tamanho1 = tamanhos[i];
+            int base2 = bases[i + 1];
+            int tamanho2 = tamanhos[i + 1];
+
+            tamanhos[i] = tamanho1 + tamanho2;
+            if (i == quantidade - 3) {
+                bases[i + 1] = bases[i + 2];
+                tamanhos[i + 1] = tamanhos[i + 2];
+            }
+            quantidade--;
+
+            // Elementos do início da primeira corrida que não passam do primeiro da segunda já estão no lugar
+            int ignorados = galopar(array[base2], array, base1, tamanho1, true, comparador);
+            base1 += ignorados;
+            tamanho1 -= ignorados;
+            if (tamanho1 == 0) return;
+
+            // Elementos do final da segunda corrida que não ficam antes do último da primeira já estão no lugar
+            tamanho2 = galopar(array[base1 + tamanho1 - 1], array, base2, tamanho2, false, comparador);
+            if (tamanho2 == 0) return;
+
+            if (tamanho1 <= tamanho2) {
+                intercalarPelaEsquerda(base1, tamanho1, base2, tamanho2);
+            } else {
+                intercalarPelaDireita(base1, tamanho1, base2, tamanho2);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private E[] garantirAuxiliar(int tamanhoNecessario) {
+            if (auxiliar.length < tamanhoNecessario) {
+                int novoTamanho = Math.max(tamanhoNecessario, Math.min(auxiliar.length * 2, array.length >>> 1));
+                auxiliar = (E[]) new Object[novoTamanho];
+            }
+            return auxiliar;
+        }
+
+        /**
+         * Intercala copiando a primeira corrida (a menor) para o buffer auxiliar e preenchendo da esquerda para a direita.
+         */
+        private void intercalarPelaEsquerda(int base1, int tamanho1, int base2, int tamanho2) {
+            E[] temp = garantirAuxiliar(tamanho1);
+            System.arraycopy(array, base1, temp, 0, tamanho1);
+
+            int i = 0;                    // Próximo da primeira corrida (no buffer)
+            int j = base2;                // Próximo da segunda corrida (no array)
+            int fim2 = base2 + tamanho2;
+            int destino = base1;
+            int vitorias1 = 0;
+            int vitorias2 = 0;
+
+            while (i < tamanho1 && j < fim2) {
+                if (vitorias1 >= LIMIAR_GALOPE || vitorias2 >= LIMIAR_GALOPE) {
+                    // Modo galopante: copia em bloco os trechos que vencem seguidamente
+                    int bloco1 = galopar(array[j], temp, i, tamanho1 - i, true, comparador);
+                    System.arraycopy(temp, i, array, destino, bloco1);
+                    destino += bloco1;
+                    i += bloco1;
+                    if (i == tamanho1) break;
+
+                    int bloco2 = galopar(temp[i], array, j, fim2 - j, false, comparador);
+                    System.arraycopy(array, j, array, destino, bloco2);
+                    destino += bloco2;
+                    j += bloco2;
+                    if (j == fim2) break;
+
+                    if (bloco1 < LIMIAR_GALOPE && bloco2 < LIMIAR_GALOPE) {
+                        vitorias1 = 0;
+                        vitorias2 = 0;
+                    }
+                    continue;
+                }
+                if (comparador.compare(array[j], temp[i]) < 0) {
+                    array[destino++] = array[j++];
+                    vitorias2++;
+                    vitorias1 = 0;
+                } else {
+                    array[destino++] = temp[i++];
+                    vitorias1++;
+                    vitorias2 = 0;
+                }
+            }
+            // O que sobrou da segunda corrida já está no lugar
+            System.arraycopy(temp, i, array, destino, tamanho1 - i);
+            Arrays.fill(temp, 0, tamanho1, null); // Não retém referências no buffer
+        }
+
+        /**
+         * Intercala copiando a segunda corrida (a menor) para o buffer auxiliar e preenchendo da direita para a esquerda.
+         */
+        private void intercalarPelaDireita(int base1, int tamanho1, int base2, int tamanho2) {
+            E[] temp = garantirAuxiliar(tamanho2);
+            System.arraycopy(array, base2, temp, 0, tamanho2);
+
+            int i = base1 + tamanho1 - 1; // Último pendente da primeira corrida (no array)
+            int j = tamanho2 - 1;         // Último pendente da segunda corrida (no buffer)
+            int destino = base2 + tamanho2 - 1;
+            int vitorias1 = 0;
+            int vitorias2 = 0;
+
+            while (i >= base1 && j >= 0) {
+                if (vitorias1 >= LIMIAR_GALOPE || vitorias2 >= LIMIAR_GALOPE) {
+                    // Elementos da primeira corrida estritamente maiores que temp[j] vão todos para o fim
+                    int pendentes1 = i - base1 + 1;
+                    int bloco1 = pendentes1 - galopar(temp[j], array, base1, pendentes1, true, comparador);
+                    destino -= bloco1;
+                    i -= bloco1;
+                    System.arraycopy(array, i + 1, array, destino + 1, bloco1);
+                    if (i < base1) break;
+
+                    // Elementos da segunda corrida maiores ou iguais a array[i] vão todos para o fim
+                    int bloco2 = j + 1 - galopar(array[i], temp, 0, j + 1, false, comparador);
+                    destino -= bloco2;
+                    j -= bloco2;
+                    System.arraycopy(temp, j + 1, array, destino + 1, bloco2);
+                    if (j < 0) break;
+
+                    if (bloco1 < LIMIAR_GALOPE && bloco2 < LIMIAR_GALOPE) {
+                        vitorias1 = 0;
+                        vitorias2 = 0;
+                    }
+                    continue;
+                }
+                if (comparador.compare(temp[j], array[i]) < 0) {
+                    array[destino--] = array[i--];
+                    vitorias1++;
+                    vitorias2 = 0;
+                } else {
+                    array[destino--] = temp[j--];
+                    vitorias2++;
+                    vitorias1 = 0;
+                }
+            }
+            // O que sobrou da primeira corrida já está no lugar
+            System.arraycopy(temp, 0, array, destino - j, j + 1);
+            Arrays.fill(temp, 0, tamanho2, null);
+        }
+    }
+
+    /**
+     * Tarefa que ordena [inicio, fim) dividindo-o ao meio, ordenando as metades em paralelo e intercalando-as.
+     * O buffer auxiliar é indexado a partir de base (posição base do array corresponde à posição 0 do buffer).
+     */
+    private static final class TarefaOrdenacao<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] array;
+        private final E[] auxiliar;
+        private final int base;
+        private final int inicio;
+        private final int fim;
+        private final int granularidade;
+        private final Comparator<? super E> comparador;
+
+        TarefaOrdenacao(E[] array, E[] auxiliar, int base, int inicio, int fim, int granularidade,
+                        Comparator<? super E> comparador) {
+            this.array = array;
+            this.auxiliar = auxiliar;
+            this.base = base;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.granularidade = granularidade;
+            this.comparador = comparador;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= granularidade) {
+                ordenar(array, inicio, fim, comparador);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new TarefaOrdenacao<>(array, auxiliar, base, inicio, meio, granularidade, comparador),
+                      new TarefaOrdenacao<>(array, auxiliar, base, meio, fim, granularidade, comparador));
+
+            // Metades que já estão em ordem dispensam a intercalação
+            if (comparador.compare(array[meio - 1], array[meio]) <= 0) return;
+
+            new TarefaCopia(array, inicio, auxiliar, inicio - base, fim - inicio, granularidade).invoke();
+            new TarefaIntercalacao<>(auxiliar, inicio - base, meio - base, meio - base, fim - base,
+                                     array, inicio, granularidade, comparador).invoke();
+        }
+    }
+
+    /**
+     * Tarefa que copia um trecho de um array para outro, dividindo a cópia entre threads.
+     */
+    private static final class TarefaCopia extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] origem;
+        private final int posicaoOrigem;
+        private final Object[] destino;
+        private final int posicaoDestino;
+        private final int quantidade;
+        private final int granularidade;
+
+        TarefaCopia(Object[] origem, int posicaoOrigem, Object[] destino, int posicaoDestino,
+                    int quantidade, int granularidade) {
+            this.origem = origem;
+            this.posicaoOrigem = posicaoOrigem;
+            this.destino = destino;
+            this.posicaoDestino = posicaoDestino;
+            this.quantidade = quantidade;
+            this.granularidade = granularidade;
+        }
+
+        @Override
+        protected void compute() {
+            if (quantidade <= granularidade) {
+                System.arraycopy(origem, posicaoOrigem, destino, posicaoDestino, quantidade);
+                return;
+            }
+            int metade = quantidade >>> 1;
+            invokeAll(new TarefaCopia(origem, posicaoOrigem, destino, posicaoDestino, metade, granularidade),
+                      new TarefaCopia(origem, posicaoOrigem + metade, destino, posicaoDestino + metade,
+                                      quantidade - metade, granularidade));
+        }
+    }
+
+    /**
+     * Tarefa que intercala as corridas ordenadas origem[inicio1, fim1) e origem[inicio2, fim2) em destino
+     * a partir de posicaoDestino. Intercalações grandes são divididas pelo elemento central da corrida maior,
+     * localizado na outra corrida por busca binária, o que gera duas intercalações independentes.
+     */
+    private static final class TarefaIntercalacao<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] origem;
+        private final int inicio1;
+        private final int fim1;
+        private final int inicio2;
+        private final int fim2;
+        private final E[] destino;
+        private final int posicaoDestino;
+        private final int granularidade;
+        private final Comparator<? super E> comparador;
+
+        TarefaIntercalacao(E[] origem, int inicio1, int fim1, int inicio2, int fim2, E[] destino,
+                           int posicaoDestino, int granularidade, Comparator<? super E> comparador) {
+            this.origem = origem;
+            this.inicio1 = inicio1;
+            this.fim1 = fim1;
+            this.inicio2 = inicio2;
+            this.fim2 = fim2;
+            this.destino = destino;
+            this.posicaoDestino = posicaoDestino;
+            this.granularidade = granularidade;
+            this.comparador = comparador;
+        }
+
+        @Override
+        protected void compute() {
+            int tamanho1 = fim1 - inicio1;
+            int tamanho2 = fim2 - inicio2;
+            if (tamanho1 + tamanho2 <= granularidade || tamanho1 == 0 || tamanho2 == 0) {
+                intercalarSequencial();
+                return;
+            }
+            int corte1;
+            int corte2;
+            if (tamanho1 >= tamanho2) {
+                // Os iguais ao pivô da primeira corrida, vindos da segunda, ficam à direita (estabilidade)
+                corte1 = (inicio1 + fim1) >>> 1;
+                corte2 = inicio2 + galopar(origem[corte1], origem, inicio2, tamanho2, false, comparador);
+            } else {
+                // Os iguais ao pivô da segunda corrida, vindos da primeira, ficam à esquerda (estabilidade)
+                corte2 = (inicio2 + fim2) >>> 1;
+                corte1 = inicio1 + galopar(origem[corte2], origem, inicio1, tamanho1, true, comparador);
+            }
+            int destinoDireita = posicaoDestino + (corte1 - inicio1) + (corte2 - inicio2);
+            invokeAll(new TarefaIntercalacao<>(origem, inicio1, corte1, inicio2, corte2, destino,
+                                               posicaoDestino, granularidade, comparador),
+                      new TarefaIntercalacao<>(origem, corte1, fim1, corte2, fim2, destino,
+                                               destinoDireita, granularidade, comparador));
+        }
+
+        private void intercalarSequencial() {
+            int i = inicio1;
+            int j = inicio2;
+            int k = posicaoDestino;
+            while (i < fim1 && j < fim2) {
+                if (comparador.compare(origem[j], origem[i]) < 0) {
+                    destino[k++] = origem[j++];
+                } else {
+                    destino[k++] = origem[i++];
+                }
+            }
+            System.arraycopy(origem, i, destino, k, fim1 - i);
+            System.arraycopy(origem, j, destino, k + (fim1 - i), fim2 - j);
+        }
+    }
+
+}
@@ -0,0 +1,343 @@
+package colecoes;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordenação radix LSD (pelo dígito menos significativo) e estável para chaves {@code int} e {@code long}.
+ * As chaves são divididas em dígitos de 11 bits, e cada dígito é distribuído em uma
+ * passada de contagem, do menos para o mais significativo: 3 passadas para {@code int} e 6 para {@code long},
+ * sem nenhuma comparação, em O(n) para um número fixo de passadas. O bit de sinal é invertido para que as
+ * chaves negativas venham antes das positivas.
+ * <p>
+ * Os histogramas de todos os dígitos são contados de uma só vez, em uma única leitura das chaves, que é
+ * dividida entre as threads do {@link ForkJoinPool#commonPool()} quando há pelo menos
+ * {@link #LIMIAR_PARALELO} chaves. Dígitos iguais em todas as chaves (por exemplo, os bits altos de valores
+ * pequenos) dispensam a sua passada. A distribuição usa um array auxiliar do mesmo tamanho da entrada.
+ */
+public final class OrdenacaoRadix {
+
+    private static final int BITS_POR_DIGITO = 11;
+    private static final int RAIZ = 1 << BITS_POR_DIGITO;
+    private static final int MASCARA = RAIZ - 1;
+    private static final int PASSADAS_INT = (Integer.SIZE + BITS_POR_DIGITO - 1) / BITS_POR_DIGITO;
+    private static final int PASSADAS_LONG = (Long.SIZE + BITS_POR_DIGITO - 1) / BITS_POR_DIGITO;
+
+    /**
+     * Abaixo deste número de elementos a ordenação é feita por inserção, pois o custo de preparar os
+     * histogramas supera o da comparação direta.
+     */
+    private static final int LIMIAR_INSERCAO = 64;
+
+    /**
+     * A partir deste número de chaves a contagem dos histogramas é feita em paralelo.
+     */
+    public static final int LIMIAR_PARALELO = 1 << 16;
+
+    private OrdenacaoRadix() {
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) do array especificado em ordem crescente.
+     * @param array o array a ser ordenado
+     * @param inicio o índice do primeiro elemento (inclusivo)
+     * @param fim o índice do último elemento (exclusivo)
+     */
+    public static void ordenar(int[] array, int inicio, int fim) {
+        ordenarInt(array, inicio, null, 0, fim - inicio);
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) do array especificado em ordem crescente.
+     * @param array o array a ser ordenado
+     * @param inicio o índice do primeiro elemento (inclusivo)
+     * @param fim o índice do último elemento (exclusivo)
+     */
+    public static void ordenar(long[] array, int inicio, int fim) {
+        ordenarLong(array, inicio, null, 0, fim - inicio);
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) do array em ordem crescente da chave {@code int} de cada elemento.
+     * A função de chave é chamada uma única vez por elemento, antes de qualquer alteração no array.
+     * A ordenação é estável: elementos com a mesma chave mantêm sua ordem relativa.
+     * @param array o array a ser ordenado
+     * @param inicio o índice do primeiro elemento (inclusivo)
+     * @param fim o índice do último elemento (exclusivo)
+     * @param chave a função que extrai a chave de ordenação de cada elemento
+     * @param <E> o tipo dos elementos do array
+     */
+    public static <E> void ordenarPorChave(E[] array, int inicio, int fim, ToIntFunction<? super E> chave) {
+        int quantidade = fim - inicio;
+        int[] chaves = new int[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            chaves[i] = chave.applyAsInt(array[inicio + i]);
+        }
+        ordenarInt(chaves, 0, array, inicio, quantidade);
+    }
+
+    /**
+     * Ordena o trecho [inicio, fim) do array em ordem crescente da chave {@code long} de cada elemento.
+     * A função de chave é chamada uma única vez por elemento, antes de qualquer alteração no array.
+     * A ordenação é estável: elementos com a mesma chave mantêm sua ordem relativa.
+     * @param array o array a ser ordenado
+     * @param inicio o índice do primeiro elemento (inclusivo)
+     * @param fim o índice do último elemento (exclusivo)
+     * @param chave a função que extrai a chave de ordenação de cada elemento
+     * @param <E> o tipo dos elementos do array
+     */
+    public static <E> void ordenarPorChaveLong(E[] array, int inicio, int fim, ToLongFunction<? super E> chave) {
+        int quantidade = fim - inicio;
+        long[] chaves = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            chaves[i] = chave.applyAsLong(array[inicio + i]);
+        }
+        ordenarLong(chaves, 0, array, inicio, quantidade);
+    }
+
+    /**
+     * Retorna o dígito da chave na passada especificada, com o bit de sinal invertido.
+     */
+    private static int digito(int chave, int passada) {
+        return ((chave ^ Integer.MIN_VALUE) >>> (passada * BITS_POR_DIGITO)) & MASCARA;
+    }
+
+    /**
+     * Retorna o dígito da chave na passada especificada, com o bit de sinal invertido.
+     */
+    private static int digito(long chave, int passada) {
+        return (int) ((chave ^ Long.MIN_VALUE) >>> (passada * BITS_POR_DIGITO)) & MASCARA;
+    }
+
+    /**
+     * Ordena chaves[posicaoChaves, + quantidade), levando junto valores[posicaoValores, + quantidade)
+     * quando valores não for null.
+     */
+    private static void ordenarInt(int[] chaves, int posicaoChaves, Object[] valores, int posicaoValores, int quantidade) {
+        if (quantidade < 2) return;
+        if (quantidade < LIMIAR_INSERCAO) {
+            insercao(chaves, posicaoChaves, valores, posicaoValores, quantidade);
+            return;
+        }
+        int[] contagens = quantidade >= LIMIAR_PARALELO
+                ? ForkJoinPool.commonPool().invoke(new HistogramaInt(chaves, posicaoChaves, posicaoChaves + quantidade, granularidade(quantidade)))
+                : HistogramaInt.contar(chaves, posicaoChaves, posicaoChaves + quantidade);
+
+        int[] origem = chaves;
+        int[] destino = new int[quantidade];
+        int posicaoOrigem = posicaoChaves;
+        int posicaoDestino = 0;
+        Object[] origemValores = valores;
+        Object[] destinoValores = valores == null ? null : new Object[quantidade];
+        int posicaoOrigemValores = posicaoValores;
+        int posicaoDestinoValores = 0;
+        int[] proximas = new int[RAIZ];
+
+        for (int passada = 0; passada < PASSADAS_INT; passada++) {
+            int base = passada * RAIZ;
+            // Se todas as chaves têm o mesmo dígito, a passada não mudaria nada
+            if (contagens[base + digito(origem[posicaoOrigem], passada)] == quantidade) continue;
+            for (int d = 0, soma = 0; d < RAIZ; d++) {
+                proximas[d] = soma;
+                soma += contagens[base + d];
+            }
+            for (int i = 0; i < quantidade; i++) {
+                int c = origem[posicaoOrigem + i];
+                int p = proximas[digito(c, passada)]++;
+                destino[posicaoDestino + p] = c;
+                if (valores != null) destinoValores[posicaoDestinoValores + p] = origemValores[posicaoOrigemValores + i];
+            }
+            int[] temp = origem; origem = destino; destino = temp;
+            int posicao = posicaoOrigem; posicaoOrigem = posicaoDestino; posicaoDestino = posicao;
+            Object[] tempValores = origemValores; origemValores = destinoValores; destinoValores = tempValores;
+            posicao = posicaoOrigemValores; posicaoOrigemValores = posicaoDestinoValores; posicaoDestinoValores = posicao;
+        }
+        // Após um número ímpar de passadas o resultado está no array auxiliar
+        if (origem != chaves) {
+            System.arraycopy(origem, posicaoOrigem, chaves, posicaoChaves, quantidade);
+            if (valores != null) System.arraycopy(origemValores, posicaoOrigemValores, valores, posicaoValores, quantidade);
+        }
+    }
+
+    /**
+     * Ordena chaves[posicaoChaves, + quantidade), levando junto valores[posicaoValores, + quantidade)
+     * quando valores não for null.
+     */
+    private static void ordenarLong(long[] chaves, int posicaoChaves, Object[] valores, int posicaoValores, int quantidade) {
+        if (quantidade < 2) return;
+        if (quantidade < LIMIAR_INSERCAO) {
+            insercao(chaves, posicaoChaves, valores, posicaoValores, quantidade);
+            return;
+        }
+        int[] contagens = quantidade >= LIMIAR_PARALELO
+                ? ForkJoinPool.commonPool().invoke(new HistogramaLong(chaves, posicaoChaves, posicaoChaves + quantidade, granularidade(quantidade)))
+                : HistogramaLong.contar(chaves, posicaoChaves, posicaoChaves + quantidade);
+
+        long[] origem = chaves;
+        long[] destino = new long[quantidade];
+        int posicaoOrigem = posicaoChaves;
+        int posicaoDestino = 0;
+        Object[] origemValores = valores;
+        Object[] destinoValores = valores == null ? null : new Object[quantidade];
+        int posicaoOrigemValores = posicaoValores;
+        int posicaoDestinoValores = 0;
+        int[] proximas = new int[RAIZ];
+
+        for (int passada = 0; passada < PASSADAS_LONG; passada++) {
+            int base = passada * RAIZ;
+            // Se todas as chaves têm o mesmo dígito, a passada não mudaria nada
+            if (contagens[base + digito(origem[posicaoOrigem], passada)] == quantidade) continue;
+            for (int d = 0, soma = 0; d < RAIZ; d++) {
+                proximas[d] = soma;
+                soma += contagens[base + d];
+            }
+            for (int i = 0; i < quantidade; i++) {
+                long c = origem[posicaoOrigem + i];
+                int p = proximas[digito(c, passada)]++;
+                destino[posicaoDestino + p] = c;
+                if (valores != null) destinoValores[posicaoDestinoValores + p] = origemValores[posicaoOrigemValores + i];
+            }
+            long[] temp = origem; origem = destino; destino = temp;
+            int posicao = posicaoOrigem; posicaoOrigem = posicaoDestino; posicaoDestino = posicao;
+            Object[] tempValores = origemValores; origemValores = destinoValores; destinoValores = tempValores;
+            posicao = posicaoOrigemValores; posicaoOrigemValores = posicaoDestinoValores; posicaoDestinoValores = posicao;
+        }
+        // Após um número ímpar de passadas o resultado está no array auxiliar
+        if (origem != chaves) {
+            System.arraycopy(origem, posicaoOrigem, chaves, posicaoChaves, quantidade);
+            if (valores != null) System.arraycopy(origemValores, posicaoOrigemValores, valores, posicaoValores, quantidade);
+        }
+    }
+
+    /**
+     * Ordenação estável por inserção para trechos pequenos, movendo os valores junto com as chaves.
+     */
+    private static void insercao(int[] chaves, int posicaoChaves, Object[] valores, int posicaoValores, int quantidade) {
+        for (int i = 1; i < quantidade; i++) {
+            int chave = chaves[posicaoChaves + i];
+            Object valor = valores == null ? null : valores[posicaoValores + i];
+            int j = i - 1;
+            while (j >= 0 && chaves[posicaoChaves + j] > chave) {
+                chaves[posicaoChaves + j + 1] = chaves[posicaoChaves + j];
+                if (valores != null) valores[posicaoValores + j + 1] = valores[posicaoValores + j];
+                j--;
+            }
+            chaves[posicaoChaves + j + 1] = chave;
+            if (valores != null) valores[posicaoValores + j + 1] = valor;
+        }
+    }
+
+    /**
+     * Ordenação estável por inserção para trechos pequenos, movendo os valores junto com as chaves.
+     */
+    private static void insercao(long[] chaves, int posicaoChaves, Object[] valores, int posicaoValores, int quantidade) {
+        for (int i = 1; i < quantidade; i++) {
+            long chave = chaves[posicaoChaves + i];
+            Object valor = valores == null ? null : valores[posicaoValores + i];
+            int j = i - 1;
+            while (j >= 0 && chaves[posicaoChaves + j] > chave) {
+                chaves[posicaoChaves + j + 1] = chaves[posicaoChaves + j];
+                if (valores != null) valores[posicaoValores + j + 1] = valores[posicaoValores + j];
+                j--;
+            }
+            chaves[posicaoChaves + j + 1] = chave;
+            if (valores != null) valores[posicaoValores + j + 1] = valor;
+        }
+    }
+
+    /**
+     * Cerca de quatro pedaços por thread equilibram a carga sem tarefas pequenas demais.
+     */
+    private static int granularidade(int quantidade) {
+        return Math.max(LIMIAR_PARALELO >>> 1, quantidade / (ForkJoinPool.commonPool().getParallelism() << 2));
+    }
+
+    /**
+     * Tarefa que conta os histogramas de todos os dígitos das chaves [inicio, fim), dividindo o trecho ao meio
+     * e somando as contagens das metades. O resultado tem {@code RAIZ} posições por passada.
+     */
+    private static final class HistogramaInt extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] chaves;
+        private final int inicio;
+        private final int fim;
+        private final int granularidade;
+
+        HistogramaInt(int[] chaves, int inicio, int fim, int granularidade) {
+            this.chaves = chaves;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.granularidade = granularidade;
+        }
+
+        static int[] contar(int[] chaves, int inicio, int fim) {
+            int[] contagens = new int[PASSADAS_INT * RAIZ];
+            for (int i = inicio; i < fim; i++) {
+                int chave = chaves[i];
+                for (int passada = 0; passada < PASSADAS_INT; passada++) {
+                    contagens[passada * RAIZ + digito(chave, passada)]++;
+                }
+            }
+            return contagens;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (fim - inicio <= granularidade) return contar(chaves, inicio, fim);
+            int meio = (inicio + fim) >>> 1;
+            HistogramaInt esquerda = new HistogramaInt(chaves, inicio, meio, granularidade);
+            esquerda.fork();
+            int[] contagens = new HistogramaInt(chaves, meio, fim, granularidade).compute();
+            int[] outras = esquerda.join();
+            for (int i = 0; i < contagens.length; i++) contagens[i] += outras[i];
+            return contagens;
+        }
+    }
+
+    /**
+     * Tarefa que conta os histogramas de todos os dígitos das chaves [inicio, fim), dividindo o trecho ao meio
+     * e somando as contagens das metades. O resultado tem {@code RAIZ} posições por passada.
+     */
+    private static final class HistogramaLong extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] chaves;
+        private final int inicio;
+        private final int fim;
+        private final int granularidade;
+
+        HistogramaLong(long[] chaves, int inicio, int fim, int granularidade) {
+            this.chaves = chaves;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.granularidade = granularidade;
+        }
+
+        static int[] contar(long[] chaves, int inicio, int fim) {
+            int[] contagens = new int[PASSADAS_LONG * RAIZ];
+            for (int i = inicio; i < fim; i++) {
+                long chave = chaves[i];
+                for (int passada = 0; passada < PASSADAS_LONG; passada++) {
+                    contagens[passada * RAIZ + digito(chave, passada)]++;
+                }
+            }
+            return contagens;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (fim - inicio <= granularidade) return contar(chaves, inicio, fim);
+            int meio = (inicio + fim) >>> 1;
+            HistogramaLong esquerda = new HistogramaLong(chaves, inicio, meio, granularidade);
+            esquerda.fork();
+            int[] contagens = new HistogramaLong(chaves, meio, fim, granularidade).compute();
+            int[] outras = esquerda.join();
+            for (int i = 0; i < contagens.length; i++) contagens[i] += outras[i];
+            return contagens;
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package colecoes.ListaPrimitiva;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação de {@link OperacoesVetoriais} com a Vector API. Cada laço processa blocos de tantas
+ * posições quantas cabem no maior vetor suportado pelo processador ({@code SPECIES_PREFERRED}) e termina
+ * com um laço escalar para as posições restantes.
+ * <p>
+ * Esta classe fica na raiz de código opcional {@code vetorial}, separada da árvore padrão, e só é referenciada
+ * por reflexão em {@link OperacoesVetoriais}: compilá-la e carregá-la exige
+ * {@code --add-modules jdk.incubator.vector}. Ela pertence ao mesmo pacote das listas primitivas e deve ser
+ * compilada junto com a árvore padrão (ou com ela no classpath). As espécies são campos estáticos, de modo que
+ * a ausência do módulo é detectada já na carga da classe, e não no meio de uma operação.
+ */
+final class OperacoesSimd implements OperacoesVetoriais {
+
+    private static final VectorSpecies<Integer> INTEIROS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGOS = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indiceDe(int[] array, int tamanho, int valor) {
+        int limite = INTEIROS.loopBound(tamanho);
+        int i = 0;
+        for (; i < limite; i += INTEIROS.length()) {
+            VectorMask<Integer> iguais = IntVector.fromArray(INTEIROS, array, i).eq(valor);
+            if (iguais.anyTrue()) return i + iguais.firstTrue();
+        }
+        return OperacoesEscalares.indiceDe(array, i, tamanho, valor);
+    }
+
+    @Override
+    public int minimo(int[] array, int tamanho) {
+        int limite = INTEIROS.loopBound(tamanho);
+        int i = 0;
+        int minimo = Integer.MAX_VALUE;
+        if (limite > 0) {
+            IntVector acumulador = IntVector.broadcast(INTEIROS, Integer.MAX_VALUE);
+            for (; i < limite; i += INTEIROS.length()) {
+                acumulador = acumulador.min(IntVector.fromArray(INTEIROS, array, i));
+            }
+            minimo = acumulador.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < tamanho; i++) {
+            minimo = Math.min(minimo, array[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public int maximo(int[] array, int tamanho) {
+        int limite = INTEIROS.loopBound(tamanho);
+        int i = 0;
+        int maximo = Integer.MIN_VALUE;
+        if (limite > 0) {
+            IntVector acumulador = IntVector.broadcast(INTEIROS, Integer.MIN_VALUE);
+            for (; i < limite; i += INTEIROS.length()) {
+                acumulador = acumulador.max(IntVector.fromArray(INTEIROS, array, i));
+            }
+            maximo = acumulador.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < tamanho; i++) {
+            maximo = Math.max(maximo, array[i]);
+        }
+        return maximo;
+    }
+
+    /**
+     * Soma os valores convertendo cada vetor de {@code int} em duas metades de {@code long}, para que a soma
+     * não transborde dentro das faixas antes da redução.
+     */
+    @Override
+    public long soma(int[] array, int tamanho) {
+        int limite = INTEIROS.loopBound(tamanho);
+        int i = 0;
+        long soma = 0;
+        if (limite > 0) {
+            LongVector acumulador = LongVector.zero(LONGOS);
+            for (; i < limite; i += INTEIROS.length()) {
+                IntVector bloco = IntVector.fromArray(INTEIROS, array, i);
+                acumulador = acumulador
+                        .add((LongVector) bloco.convertShape(VectorOperators.I2L, LONGOS, 0))
+                        .add((LongVector) bloco.convertShape(VectorOperators.I2L, LONGOS, 1));
+            }
+            soma = acumulador.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < tamanho; i++) {
+            soma += array[i];
+        }
+        return soma;
+    }
+
+    @Override
+    public int indiceDe(long[] array, int tamanho, long valor) {
+        int limite = LONGOS.loopBound(tamanho);
+        int i = 0;
+        for (; i < limite; i += LONGOS.length()) {
+            VectorMask<Long> iguais = LongVector.fromArray(LONGOS, array, i).eq(valor);
+            if (iguais.anyTrue()) return i + iguais.firstTrue();
+        }
+        return OperacoesEscalares.indiceDe(array, i, tamanho, valor);
+    }
+
+    @Override
+    public long minimo(long[] array, int tamanho) {
+        int limite = LONGOS.loopBound(tamanho);
+        int i = 0;
+        long minimo = Long.MAX_VALUE;
+        if (limite > 0) {
+            LongVector acumulador = LongVector.broadcast(LONGOS, Long.MAX_VALUE);
+            for (; i < limite; i += LONGOS.length()) {
+                acumulador = acumulador.min(LongVector.fromArray(LONGOS, array, i));
+            }
+            minimo = acumulador.reduceLanes(VectorOperators.MIN);
+        }
+        for (; i < tamanho; i++) {
+            minimo = Math.min(minimo, array[i]);
+        }
+        return minimo;
+    }
+
+    @Override
+    public long maximo(long[] array, int tamanho) {
+        int limite = LONGOS.loopBound(tamanho);
+        int i = 0;
+        long maximo = Long.MIN_VALUE;
+        if (limite > 0) {
+            LongVector acumulador = LongVector.broadcast(LONGOS, Long.MIN_VALUE);
+            for (; i < limite; i += LONGOS.length()) {
+                acumulador = acumulador.max(LongVector.fromArray(LONGOS, array, i));
+            }
+            maximo = acumulador.reduceLanes(VectorOperators.MAX);
+        }
+        for (; i < tamanho; i++) {
+            maximo = Math.max(maximo, array[i]);
+        }
+        return maximo;
+    }
+
+    @Override
+    public long soma(long[] array, int tamanho) {
+        int limite = LONGOS.loopBound(tamanho);
+        int i = 0;
+        long soma = 0;
+        if (limite > 0) {
+            LongVector acumulador = LongVector.zero(LONGOS);
+            for (; i < limite; i += LONGOS.length()) {
+                acumulador = acumulador.add(LongVector.fromArray(LONGOS, array, i));
+            }
+            soma = acumulador.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < tamanho; i++) {
+            soma += array[i];
+        }
+        return soma;
+    }
+
+}
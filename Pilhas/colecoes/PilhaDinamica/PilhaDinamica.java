@@ -32,6 +32,93 @@ public class PilhaDinamica<E> implements Pilha<E> {
     private int altura;
     private No topo;
 
+    // Reciclagem de nós: lista de nós livres ligada por 'proximo' (desativada enquanto o limite for zero)
+    private No livres;
+    private int quantidadeLivres;
+    private int limiteReciclagem;
+    private long nosAlocados;
+    private long nosReutilizados;
+
+    /**
+     * Ativa a reciclagem de nós: até limite nós removidos ficam guardados para serem reaproveitados.
+     * Os nós reciclados têm o valor descartado ao serem liberados, para não reter os elementos removidos.
+     * A lista de nós livres é própria de cada pilha, já que a pilha não é segura para uso concorrente.
+     * @param limite a quantidade máxima de nós livres guardados
+     * @throws IllegalArgumentException se o limite for menor ou igual a zero
+     */
+    public void ativarReciclagem(int limite) {
+        if (limite <= 0) throw new IllegalArgumentException("O limite de reciclagem deve ser positivo.");
+        limiteReciclagem = limite;
+        while (quantidadeLivres > limite) {
+            livres = livres.proximo;
+            quantidadeLivres--;
+        }
+    }
+
+    /**
+     * Desativa a reciclagem de nós e descarta os nós livres guardados.
+     */
+    public void desativarReciclagem() {
+        limiteReciclagem = 0;
+        livres = null;
+        quantidadeLivres = 0;
+    }
+
+    /**
+     * Retorna quantos nós novos esta pilha já alocou.
+     * @return o número de nós alocados
+     */
+    public long nosAlocados() {
+        return nosAlocados;
+    }
+
+    /**
+     * Retorna quantos nós esta pilha já reaproveitou da lista de nós livres, em vez de alocá-los.
+     * @return o número de nós reutilizados
+     */
+    public long nosReutilizados() {
+        return nosReutilizados;
+    }
+
+    /**
+     * Retorna um nó com o valor especificado, reaproveitando um nó livre se houver.
+     */
+    private No novoNo(E valor) {
+        if (livres == null) {
+            nosAlocados++;
+            return new No(valor);
+        }
+        No no = livres;
+        livres = no.proximo;
+        quantidadeLivres--;
+        nosReutilizados++;
+        no.proximo = null;
+        no.valor = valor;
+        return no;
+    }
+
+    /**
+     * Devolve um nó já desligado à lista de nós livres, se a reciclagem estiver ativa e houver espaço.
+     */
+    private void liberarNo(No no) {
+        if (quantidadeLivres >= limiteReciclagem) return;
+        no.valor = null;
+        no.proximo = livres;
+        livres = no;
+        quantidadeLivres++;
+    }
+
+    /**
+     * Guarda os nós a partir do especificado até que a lista de nós livres esteja cheia.
+     */
+    private void liberarNos(No no) {
+        while (no != null && quantidadeLivres < limiteReciclagem) {
+            No proximo = no.proximo;
+            liberarNo(no);
+            no = proximo;
+        }
+    }
+
     /**
      * Retorna o número de elementos nesta pilha.
      * @return o número de elementos nesta pilha
@@ -58,8 +145,10 @@ public class PilhaDinamica<E> implements Pilha<E> {
     @Override
     public E desempilhar() throws PilhaVaziaExcecao {
         if(estaVazia()) throw new PilhaVaziaExcecao("Pilha está vazia!");
-        E valor = topo.valor;
-        topo = topo.proximo;
+        No noRemovido = topo;
+        E valor = noRemovido.valor;
+        topo = noRemovido.proximo;
+        liberarNo(noRemovido);
         altura--;
         return valor;
     }
@@ -70,7 +159,7 @@ public class PilhaDinamica<E> implements Pilha<E> {
      */
     @Override
     public void empilhar(E valor) {
-        No novoNo = new No(valor);
+        No novoNo = novoNo(valor);
         novoNo.proximo = topo;
         topo = novoNo;
         altura++;
@@ -94,6 +183,7 @@ public class PilhaDinamica<E> implements Pilha<E> {
      */
     @Override
     public void limpar() {
+        liberarNos(topo);
         topo = null;
         altura = 0;
     }